@@ -1,11 +1,13 @@
+import ui.CommandLine;
 import ui.TerminalUI;
 
 /**
  * Entry point of the application.
  * <p>
  * This class is responsible for starting the program execution.
- * It delegates control to the {@link ui.TerminalUI} class, which
- * handles the user interaction through a terminal-based interface.
+ * Without arguments it delegates control to the {@link ui.TerminalUI} class, which
+ * handles the user interaction through a terminal-based interface. With arguments,
+ * it delegates to {@link ui.CommandLine}, which runs the requested non-interactive mode.
  * </p>
  */
 public class Main {
@@ -14,12 +16,17 @@ public class Main {
      * <p>
      * This method is invoked by the Java Virtual Machine (JVM) when
      * the program starts. It initializes the application by calling
-     * {@link ui.TerminalUI#start()}.
+     * {@link ui.TerminalUI#start()}, or {@link ui.CommandLine#run(String[])}
+     * when command-line arguments are given.
      * </p>
      *
      * @param args command-line arguments passed to the application
      */
     public static void main(String[] args) {
-        TerminalUI.start();
+        if (args.length == 0) {
+            TerminalUI.start();
+        } else {
+            CommandLine.run(args);
+        }
     }
 }
\ No newline at end of file
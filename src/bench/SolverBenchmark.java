@@ -0,0 +1,129 @@
+package bench;
+
+import core.GeneratorRegistry;
+import core.InputReader;
+import core.Solver;
+import core.SolverRegistry;
+
+// Must import into the project JMH 1.37 (jmh-core and jmh-generator-annprocess)
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark suite covering every {@link Solver} registered in {@link SolverRegistry}.
+ * <p>
+ * The benchmark is parameterized by day, part and dataset, so a single run measures
+ * both the Silver and Gold variants of every day on both the test and the full input
+ * ({@code src/days/dayNN/DayNNInput*.txt}). Throughput and average time are reported,
+ * and the GC profiler adds the allocation rate of each combination.
+ * </p>
+ * <p>
+ * Synthetic inputs from {@link GeneratorRegistry} are selected with
+ * {@code -p dataset=gen}, and {@code -p scale=1,10,100} measures the same solver at
+ * several sizes to obtain its scaling curve.
+ * </p>
+ * <p>
+ * Each day runs its default implementation; {@code -p implementation=reference,parallel}
+ * measures named implementations of the {@link SolverRegistry} side by side instead.
+ * </p>
+ * <p>
+ * Every invocation solves the same list of input lines, which solvers never modify.
+ * Combinations whose input file
+ * is missing fail during setup and are reported by JMH without aborting the run.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+
+    /** Day to benchmark. */
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12"})
+    public int day;
+
+    /** Part to benchmark, either "silver" or "gold". */
+    @Param({"silver", "gold"})
+    public String part;
+
+    /** Dataset to benchmark, "test", "full" or "gen" for a synthetic input. */
+    @Param({"test", "full"})
+    public String dataset;
+
+    /** Size of synthetic inputs relative to the puzzle input, only used by the "gen" dataset. */
+    @Param({"10"})
+    public int scale;
+
+    /** Name of the implementation to benchmark, or "default" for the day's default one. */
+    @Param({"default"})
+    public String implementation;
+
+    /** Solver under measurement. */
+    private Solver solver;
+
+    /** Input lines read once per trial. */
+    private List<String> lines;
+
+    /**
+     * Resolves the solver and reads or generates the input once per trial, so file
+     * I/O and generation never contribute to the measured time.
+     *
+     * @throws IllegalStateException if the day has no implementation of the selected name
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        solver = implementation.equals("default")
+                ? SolverRegistry.get(day)
+                : SolverRegistry.get(day, implementation);
+        if (solver == null) {
+            throw new IllegalStateException("Day " + day + " has no implementation named " + implementation);
+        }
+        lines = dataset.equals("gen")
+                ? GeneratorRegistry.generate(day, scale, GeneratorRegistry.DEFAULT_SEED)
+                : InputReader.readLines(InputReader.inputPath(day, dataset));
+    }
+
+    /**
+     * Runs the selected part of the selected day.
+     *
+     * @return the puzzle result, returned so JMH can prevent dead-code elimination
+     */
+    @Benchmark
+    public long solve() {
+        return part.equals("silver")
+                ? solver.solveSilver(lines)
+                : solver.solveGold(lines);
+    }
+
+    /**
+     * Launches the benchmark suite with the GC profiler enabled.
+     * <p>
+     * Any standard JMH command-line option is accepted, which allows narrowing the
+     * run, e.g. {@code -p day=8 -p dataset=full}.
+     * </p>
+     *
+     * @param args JMH command-line options
+     * @throws RunnerException if the benchmark run fails
+     * @throws CommandLineOptionException if the options cannot be parsed
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SolverBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(false)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,91 @@
+package core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lightweight {@link CharSequence} view over a slice of a {@link ByteBuffer}.
+ * <p>
+ * Each byte is exposed as one character, which matches the ASCII puzzle inputs.
+ * No characters are copied: {@link #charAt(int)} reads straight from the buffer,
+ * so a line can be scanned without decoding it into a {@link String}. Only
+ * {@link #toString()} materializes the characters.
+ * </p>
+ */
+public final class ByteLine implements CharSequence {
+
+    /** Buffer holding the bytes of the line. */
+    private final ByteBuffer buffer;
+
+    /** Absolute position of the first byte of the line in the buffer. */
+    private final int offset;
+
+    /** Number of bytes in the line. */
+    private final int length;
+
+    /**
+     * Creates a view over {@code length} bytes of {@code buffer} starting at {@code offset}.
+     *
+     * @param buffer the buffer holding the bytes
+     * @param offset absolute position of the first byte
+     * @param length number of bytes in the view
+     */
+    ByteLine(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of characters (bytes) in this line.
+     *
+     * @return the length of the line
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the character at the given index, reading it directly from the buffer.
+     *
+     * @param index index of the character
+     * @return the character at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is outside the line
+     */
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    /**
+     * Returns a view over a sub-range of this line without copying any bytes.
+     *
+     * @param start start index, inclusive
+     * @param end   end index, exclusive
+     * @return a {@link ByteLine} view of the requested range
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    @Override
+    public ByteLine subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
+        }
+        return new ByteLine(buffer, offset + start, end - start);
+    }
+
+    /**
+     * Decodes the line into a {@link String}.
+     *
+     * @return the line contents
+     */
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes, 0, length);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
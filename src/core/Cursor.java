@@ -0,0 +1,284 @@
+package core;
+
+/**
+ * Scanner over a {@link CharSequence} for parsing puzzle inputs.
+ * <p>
+ * A cursor reads primitive {@code int}s and {@code long}s, separators and bracketed
+ * lists straight from the characters, without splitting, matching regular expressions
+ * or creating substrings. It works on {@link String}s as well as on {@link ByteLine}
+ * views of memory-mapped bytes. A single cursor can be {@link #reset(CharSequence)}
+ * onto every line of an input, so parsing a whole file allocates nothing per line.
+ * </p>
+ * <p>
+ * Cursors are mutable and not thread-safe; create one per parse. Malformed input is
+ * reported with an {@link IllegalArgumentException} giving the offending position.
+ * </p>
+ */
+public final class Cursor {
+
+    /** Characters being scanned. */
+    private CharSequence text;
+
+    /** Index of the next character to read. */
+    private int pos;
+
+    /**
+     * Creates a cursor positioned at the start of the given text.
+     *
+     * @param text the characters to scan
+     */
+    public Cursor(CharSequence text) {
+        reset(text);
+    }
+
+    /**
+     * Moves the cursor to the start of another text.
+     *
+     * @param text the characters to scan
+     * @return this cursor
+     */
+    public Cursor reset(CharSequence text) {
+        this.text = text;
+        this.pos = 0;
+        return this;
+    }
+
+    /**
+     * Returns the index of the next character to read.
+     *
+     * @return the current position
+     */
+    public int position() {
+        return pos;
+    }
+
+    /**
+     * Moves the cursor to an absolute position, e.g. to read again a section that was skipped.
+     *
+     * @param position index of the next character to read
+     * @return this cursor
+     * @throws IndexOutOfBoundsException if the position is outside the text
+     */
+    public Cursor seek(int position) {
+        if (position < 0 || position > text.length()) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of bounds for length " + text.length());
+        }
+        this.pos = position;
+        return this;
+    }
+
+    /**
+     * Returns whether characters remain to be read.
+     *
+     * @return {@code true} if the cursor is not at the end of the text
+     */
+    public boolean hasNext() {
+        return pos < text.length();
+    }
+
+    /**
+     * Returns the next character without consuming it.
+     *
+     * @return the next character, or {@code '\0'} at the end of the text
+     */
+    public char peek() {
+        return (pos < text.length()) ? text.charAt(pos) : '\0';
+    }
+
+    /**
+     * Consumes and returns the next character.
+     *
+     * @return the next character
+     * @throws IllegalArgumentException at the end of the text
+     */
+    public char next() {
+        if (pos >= text.length()) throw error("unexpected end of input");
+        return text.charAt(pos++);
+    }
+
+    /**
+     * Consumes the next character if it equals {@code c}.
+     *
+     * @param c the expected character
+     * @return {@code true} if the character was consumed
+     */
+    public boolean skip(char c) {
+        if (pos < text.length() && text.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consumes the next character, failing if it is not {@code c}.
+     *
+     * @param c the expected character
+     * @return this cursor
+     * @throws IllegalArgumentException if the next character is not {@code c}
+     */
+    public Cursor expect(char c) {
+        if (!skip(c)) throw error("expected '" + c + "'");
+        return this;
+    }
+
+    /**
+     * Consumes every space and tab at the cursor.
+     *
+     * @return this cursor
+     */
+    public Cursor skipWhitespace() {
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c != ' ' && c != '\t') break;
+            pos++;
+        }
+        return this;
+    }
+
+    /**
+     * Consumes characters up to, but not including, the next occurrence of {@code c}.
+     *
+     * @param c the character to stop at
+     * @return {@code true} if {@code c} was found, {@code false} if the end was reached
+     */
+    public boolean skipTo(char c) {
+        while (pos < text.length()) {
+            if (text.charAt(pos) == c) return true;
+            pos++;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a number starts at the cursor, after optional whitespace.
+     * <p>
+     * Skips the whitespace in all cases.
+     * </p>
+     *
+     * @return {@code true} if the next character is a digit or a minus sign followed by a digit
+     */
+    public boolean hasNumber() {
+        skipWhitespace();
+        if (pos >= text.length()) return false;
+        char c = text.charAt(pos);
+        if (c == '-') {
+            return pos + 1 < text.length() && isDigit(text.charAt(pos + 1));
+        }
+        return isDigit(c);
+    }
+
+    /**
+     * Parses an optionally negative decimal {@code int}, skipping leading whitespace.
+     *
+     * @return the parsed value
+     * @throws IllegalArgumentException if no digit is found or the value overflows an {@code int}
+     */
+    public int nextInt() {
+        long value = nextLong();
+        if (value != (int) value) throw error("value out of int range: " + value);
+        return (int) value;
+    }
+
+    /**
+     * Parses an optionally negative decimal {@code long}, skipping leading whitespace.
+     *
+     * @return the parsed value
+     * @throws IllegalArgumentException if no digit is found or the value overflows a {@code long}
+     */
+    public long nextLong() {
+        skipWhitespace();
+        boolean negative = skip('-');
+        int start = pos;
+        long value = 0;
+        while (pos < text.length()) {
+            int digit = text.charAt(pos) - '0';
+            if (digit < 0 || digit > 9) break;
+            if (value > (Long.MAX_VALUE - digit) / 10) throw error("value out of long range");
+            value = value * 10 + digit;
+            pos++;
+        }
+        if (pos == start) throw error("expected a number");
+        return negative ? -value : value;
+    }
+
+    /**
+     * Returns whether a digit is at the cursor, without skipping anything.
+     *
+     * @return {@code true} if the next character is a decimal digit
+     */
+    public boolean atDigit() {
+        return pos < text.length() && isDigit(text.charAt(pos));
+    }
+
+    /**
+     * Parses a bracketed, comma-separated list of {@code int}s such as {@code (0,2,3)}.
+     * <p>
+     * Leading whitespace is skipped, and the list may be empty.
+     * </p>
+     *
+     * @param open  the opening bracket
+     * @param close the closing bracket
+     * @param into  array receiving the values, which must be large enough
+     * @return the number of values written to {@code into}
+     * @throws IllegalArgumentException if the list is malformed or longer than {@code into}
+     */
+    public int nextIntList(char open, char close, int[] into) {
+        skipWhitespace();
+        expect(open);
+        int count = 0;
+        if (skipWhitespace().skip(close)) return 0;
+        do {
+            if (count == into.length) throw error("list longer than " + into.length);
+            into[count++] = nextInt();
+            skipWhitespace();
+        } while (skip(','));
+        expect(close);
+        return count;
+    }
+
+    /**
+     * Reads the next run of characters up to whitespace or one of the given delimiters,
+     * skipping leading whitespace.
+     * <p>
+     * This is the only method that allocates, since the word is returned as a {@link String}.
+     * </p>
+     *
+     * @param delimiters characters that end the word in addition to whitespace
+     * @return the word, empty if the cursor is at a delimiter or the end of the text
+     */
+    public String nextWord(char... delimiters) {
+        skipWhitespace();
+        int start = pos;
+        scan:
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c == ' ' || c == '\t') break;
+            for (char d : delimiters) {
+                if (c == d) break scan;
+            }
+            pos++;
+        }
+        return text.subSequence(start, pos).toString();
+    }
+
+    /**
+     * Returns whether a character is a decimal digit.
+     *
+     * @param c the character to test
+     * @return {@code true} for '0' to '9'
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Builds the exception reported for malformed input.
+     *
+     * @param message description of the problem
+     * @return the exception, mentioning the position and the text
+     */
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Parse error at column " + pos + ": " + message + " in \"" + text + "\"");
+    }
+}
@@ -0,0 +1,63 @@
+package core;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Starts and dumps a Java Flight Recorder recording around a run.
+ * <p>
+ * The recording uses the JDK "profile" settings and additionally enables the
+ * {@link SolveEvent} and {@link PhaseEvent} events with no duration threshold, so
+ * every solver run and phase appears in the dumped file, which can be opened in
+ * JDK Mission Control.
+ * </p>
+ */
+public class FlightRecording implements AutoCloseable {
+
+    /** The running recording. */
+    private final Recording recording;
+
+    /** File the recording is dumped to when closed. */
+    private final Path destination;
+
+    /**
+     * Starts a recording that will be dumped to the given file.
+     *
+     * @param destination path of the {@code .jfr} file to write
+     * @throws RuntimeException if the recording cannot be configured
+     */
+    public FlightRecording(Path destination) {
+        try {
+            this.recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (IOException | ParseException e) {
+            throw new RuntimeException("Error configuring flight recording", e);
+        }
+        this.destination = destination;
+        recording.setName("Advent of Code");
+        recording.enable(SolveEvent.class).withoutThreshold();
+        recording.enable(PhaseEvent.class).withoutThreshold();
+        recording.start();
+    }
+
+    /**
+     * Stops the recording and dumps it to the destination file.
+     *
+     * @throws RuntimeException if the file cannot be written
+     */
+    @Override
+    public void close() {
+        try {
+            recording.stop();
+            recording.dump(destination);
+            System.out.println("Flight recording written to " + destination.toAbsolutePath());
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing flight recording: " + destination, e);
+        } finally {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package core;
+
+import days.day01.SecretEntranceGenerator;
+import days.day02.GiftShopGenerator;
+import days.day03.LobbyGenerator;
+import days.day04.PrintingDepartmentGenerator;
+import days.day05.CafeteriaGenerator;
+import days.day06.TrashCompactorGenerator;
+import days.day07.LaboratoriesGenerator;
+import days.day08.PlaygroundGenerator;
+import days.day09.MovieTheaterGenerator;
+import days.day10.FactoryGenerator;
+import days.day11.ReactorGenerator;
+import days.day12.TreeFarmGenerator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Registry for all synthetic input generators, mapping each day to its {@link InputGenerator}.
+ * <p>
+ * Generated inputs are selected as the "gen" dataset by the batch runner and the
+ * benchmark suite. Scales range from 1 (puzzle size) to {@value #MAX_SCALE}; the
+ * quadratic days become very slow well before the upper end, which is the point.
+ * </p>
+ */
+public class GeneratorRegistry {
+    /** Largest supported scale. */
+    public static final int MAX_SCALE = 1000;
+
+    /** Seed used when none is given, so default runs are reproducible. */
+    public static final long DEFAULT_SEED = 2025;
+
+    /** Map that stores the generator for each day. */
+    private static final Map<Integer, InputGenerator> generators = new HashMap<>();
+
+    // Static initializer to populate the generators map
+    static {
+        generators.put(1, new SecretEntranceGenerator());
+        generators.put(2, new GiftShopGenerator());
+        generators.put(3, new LobbyGenerator());
+        generators.put(4, new PrintingDepartmentGenerator());
+        generators.put(5, new CafeteriaGenerator());
+        generators.put(6, new TrashCompactorGenerator());
+        generators.put(7, new LaboratoriesGenerator());
+        generators.put(8, new PlaygroundGenerator());
+        generators.put(9, new MovieTheaterGenerator());
+        generators.put(10, new FactoryGenerator());
+        generators.put(11, new ReactorGenerator());
+        generators.put(12, new TreeFarmGenerator());
+    }
+
+    /**
+     * Retrieves the generator associated with the specified day.
+     *
+     * @param day the day number for which to retrieve the generator
+     * @return the {@link InputGenerator} for the given day, or {@code null} if none exists
+     */
+    public static InputGenerator get(int day) {
+        return generators.get(day);
+    }
+
+    /**
+     * Generates a synthetic input for a day.
+     * <p>
+     * The random source is seeded with {@code seed} alone, so the same day, scale and
+     * seed always produce the same input.
+     * </p>
+     *
+     * @param day   the day number
+     * @param scale size of the input relative to the real puzzle input, 1 to {@value #MAX_SCALE}
+     * @param seed  seed of the random source
+     * @return the generated input lines
+     * @throws IllegalArgumentException if no generator exists for the day or the scale is out of range
+     */
+    public static List<String> generate(int day, int scale, long seed) {
+        InputGenerator generator = generators.get(day);
+        if (generator == null) {
+            throw new IllegalArgumentException("No generator for day " + day);
+        }
+        if (scale < 1 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 1 and " + MAX_SCALE + ", got: " + scale);
+        }
+        return generator.generate(scale, new Random(seed));
+    }
+}
@@ -0,0 +1,213 @@
+package core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rectangular grid of byte cells stored row-major in a single flat array, surrounded
+ * by a one-cell border.
+ * <p>
+ * Cells are addressed by a flat index, computed once with {@link #index(int, int)}.
+ * The neighbours of any cell inside the grid are then found at constant offsets,
+ * {@code ±1} and {@code ±stride()}, and the border holds a fixed value, so neighbour
+ * scans need no bounds checks: stepping outside the grid lands on a border cell.
+ * Cells hold characters of the input when parsed with {@link #parse(List, byte)}, or
+ * arbitrary byte states when created with {@link #Grid(int, int, byte, byte)}.
+ * </p>
+ * <p>
+ * Grids are mutable and not thread-safe; solvers build their own from the input lines
+ * and work on it, which leaves the shared input untouched.
+ * </p>
+ */
+public final class Grid {
+
+    /** Number of columns inside the border. */
+    private final int width;
+
+    /** Number of rows inside the border. */
+    private final int height;
+
+    /** Distance between two vertically adjacent cells, i.e. the width plus both border columns. */
+    private final int stride;
+
+    /** Cells, row-major, border included. */
+    private final byte[] cells;
+
+    /**
+     * Creates a grid with every inner cell set to {@code fill} and the border set to {@code border}.
+     *
+     * @param width  number of columns, at least 0
+     * @param height number of rows, at least 0
+     * @param fill   initial value of the inner cells
+     * @param border value of the border cells
+     * @throws IllegalArgumentException if a dimension is negative
+     */
+    public Grid(int width, int height, byte fill, byte border) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("Invalid grid size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.stride = width + 2;
+        this.cells = new byte[stride * (height + 2)];
+        Arrays.fill(cells, border);
+        for (int row = 0; row < height; row++) {
+            int start = index(row, 0);
+            Arrays.fill(cells, start, start + width, fill);
+        }
+    }
+
+    /**
+     * Creates a grid holding the characters of the given lines, one line per row.
+     * <p>
+     * The width is that of the longest line; shorter lines are padded with the border
+     * value. Characters are stored as their low byte, which is exact for ASCII input.
+     * </p>
+     *
+     * @param lines  the rows of the grid
+     * @param border value of the border cells, e.g. {@code '.'} for an empty cell
+     * @return the parsed grid
+     */
+    public static Grid parse(List<? extends CharSequence> lines, byte border) {
+        int width = 0;
+        for (CharSequence line : lines) width = Math.max(width, line.length());
+        Grid grid = new Grid(width, lines.size(), border, border);
+        for (int row = 0; row < lines.size(); row++) {
+            CharSequence line = lines.get(row);
+            int start = grid.index(row, 0);
+            for (int col = 0; col < line.length(); col++) {
+                grid.cells[start + col] = (byte) line.charAt(col);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the width, border excluded
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the height, border excluded
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Returns the index offset between two vertically adjacent cells.
+     *
+     * @return the row stride, border columns included
+     */
+    public int stride() {
+        return stride;
+    }
+
+    /**
+     * Computes the flat index of a cell.
+     * <p>
+     * Rows and columns from -1 to {@code height} and {@code width} inclusive address the
+     * border.
+     * </p>
+     *
+     * @param row the row, 0 being the first row inside the border
+     * @param col the column, 0 being the first column inside the border
+     * @return the flat index of the cell
+     */
+    public int index(int row, int col) {
+        return (row + 1) * stride + col + 1;
+    }
+
+    /**
+     * Returns the value of a cell.
+     *
+     * @param index the flat index of the cell
+     * @return the cell value
+     */
+    public byte get(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Sets the value of a cell.
+     *
+     * @param index the flat index of the cell
+     * @param value the new value
+     */
+    public void set(int index, byte value) {
+        cells[index] = value;
+    }
+
+    /**
+     * Returns the value of a cell given by row and column.
+     *
+     * @param row the row
+     * @param col the column
+     * @return the cell value
+     */
+    public byte get(int row, int col) {
+        return cells[index(row, col)];
+    }
+
+    /**
+     * Counts the cells holding a value among the 8 neighbours of a cell.
+     *
+     * @param index the flat index of a cell inside the border
+     * @param value the value to count
+     * @return the number of neighbours holding {@code value}, from 0 to 8
+     */
+    public int countAround(int index, byte value) {
+        int above = index - stride;
+        int below = index + stride;
+        return (cells[above - 1] == value ? 1 : 0) + (cells[above] == value ? 1 : 0) + (cells[above + 1] == value ? 1 : 0)
+                + (cells[index - 1] == value ? 1 : 0) + (cells[index + 1] == value ? 1 : 0)
+                + (cells[below - 1] == value ? 1 : 0) + (cells[below] == value ? 1 : 0) + (cells[below + 1] == value ? 1 : 0);
+    }
+
+    /**
+     * Counts the cells holding a value inside the border.
+     *
+     * @param value the value to count
+     * @return the number of inner cells holding {@code value}
+     */
+    public int count(byte value) {
+        int count = 0;
+        for (int row = 0; row < height; row++) {
+            count += countInRow(row, value);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the cells holding a value in one row.
+     *
+     * @param row   the row to scan
+     * @param value the value to count
+     * @return the number of cells of the row holding {@code value}
+     */
+    public int countInRow(int row, byte value) {
+        int count = 0;
+        for (int i = index(row, 0), end = i + width; i < end; i++) {
+            if (cells[i] == value) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Sets every cell inside the border to a value.
+     *
+     * @param value the new value of the inner cells
+     */
+    public void fill(byte value) {
+        for (int row = 0; row < height; row++) {
+            int start = index(row, 0);
+            Arrays.fill(cells, start, start + width, value);
+        }
+    }
+}
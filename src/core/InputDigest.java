@@ -0,0 +1,129 @@
+package core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Utility class for computing content fingerprints of puzzle inputs.
+ * <p>
+ * Two inputs with the same lines always produce the same fingerprint, regardless
+ * of where they were read from, which makes it suitable as a cache key.
+ * </p>
+ */
+public class InputDigest {
+
+    /**
+     * Computes the SHA-256 digest of the given lines.
+     * <p>
+     * Each line is hashed as UTF-8 followed by a {@code '\n'} separator.
+     * </p>
+     *
+     * @param lines the input lines
+     * @return the digest as a lowercase hexadecimal string
+     */
+    public static String of(List<String> lines) {
+        MessageDigest digest = sha256();
+        for (String line : lines) {
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Computes the SHA-256 digest of the lines of a file without loading it in memory.
+     * <p>
+     * Produces the same digest as {@link #of(List)} applied to the lines of the file.
+     * If the file cannot be read due to an {@link IOException}, this method wraps it
+     * in a {@link RuntimeException} and rethrows it.
+     * </p>
+     *
+     * @param filePath the path to the text file to hash
+     * @return the digest as a lowercase hexadecimal string
+     * @throws RuntimeException if an I/O error occurs while reading the file
+     */
+    public static String ofFile(String filePath) {
+        MessageDigest digest = sha256();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(filePath))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file: " + filePath, e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Iterator hashing the lines it returns, so that a streamed input is hashed from the
+     * very lines that were solved rather than from a second read of its file.
+     * <p>
+     * Produces the same digest as {@link #of(List)} applied to every line of the wrapped
+     * iterator.
+     * </p>
+     */
+    public static final class Digesting implements Iterator<String> {
+
+        /** The lines being hashed. */
+        private final Iterator<String> lines;
+
+        /** Digest of the lines returned so far. */
+        private final MessageDigest digest = sha256();
+
+        /**
+         * Wraps an iterator of lines.
+         *
+         * @param lines the lines to hash as they are returned
+         */
+        public Digesting(Iterator<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lines.hasNext();
+        }
+
+        @Override
+        public String next() {
+            String line = lines.next();
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return line;
+        }
+
+        /**
+         * Hashes the lines not returned yet, if any, and returns the digest of every line.
+         *
+         * @return the digest as a lowercase hexadecimal string
+         */
+        public String digest() {
+            while (hasNext()) next();
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+
+    /**
+     * Creates a new SHA-256 {@link MessageDigest}.
+     *
+     * @return a SHA-256 digest instance
+     * @throws IllegalStateException if the JVM does not provide SHA-256
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
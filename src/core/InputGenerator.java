@@ -0,0 +1,24 @@
+package core;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Interface for synthetic input generators for each day.
+ * <p>
+ * A generator produces a valid puzzle input whose size is a multiple of the size of
+ * the real puzzle input, so solvers can be exercised well beyond the shipped data.
+ * Generators must be deterministic: the same scale and the same sequence of random
+ * values always yield the same input.
+ * </p>
+ */
+public interface InputGenerator {
+    /**
+     * Generates a synthetic input.
+     *
+     * @param scale  size of the input relative to the real puzzle input (1 = puzzle size)
+     * @param random source of randomness, seeded by the caller
+     * @return the generated input lines
+     */
+    List<String> generate(int scale, Random random);
+}
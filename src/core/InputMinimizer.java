@@ -0,0 +1,82 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Shrinks a failing input to a small one that still fails, by delta debugging over its lines.
+ * <p>
+ * The input is cut into {@code n} chunks of lines, starting with two. Removing a chunk
+ * is kept whenever the remaining lines still fail, after which the chunks are cut again
+ * from the smaller input; when no chunk can be removed, the chunks are halved, down to
+ * single lines. The result is 1-minimal: removing any one of its lines makes it pass.
+ * </p>
+ * <p>
+ * The test decides what failing means. It is typically false for inputs that are no
+ * longer valid, so that only well-formed inputs are kept. The number of tests is
+ * bounded; once it is reached, the smallest failing input found so far is returned.
+ * </p>
+ */
+public class InputMinimizer {
+
+    /**
+     * Outcome of a minimization.
+     *
+     * @param lines    the smallest failing input found
+     * @param tests    number of times the test was run
+     * @param complete {@code true} if the input is 1-minimal, {@code false} if the test limit was reached first
+     */
+    public record Result(List<String> lines, int tests, boolean complete) {}
+
+    /**
+     * Minimizes a failing input.
+     *
+     * @param input    the failing input, which is not run again
+     * @param fails    tells whether a candidate input still fails
+     * @param maxTests largest number of times the test is run
+     * @return the smallest failing input found
+     */
+    public static Result minimize(List<String> input, Predicate<List<String>> fails, int maxTests) {
+        List<String> current = List.copyOf(input);
+        int chunks = 2;
+        int tests = 0;
+        while (current.size() >= 2) {
+            chunks = Math.min(chunks, current.size());
+            boolean reduced = false;
+            for (int i = 0; i < chunks; i++) {
+                if (tests == maxTests) return new Result(current, tests, false);
+                List<String> candidate = without(current, chunks, i);
+                tests++;
+                if (fails.test(candidate)) {
+                    current = candidate;
+                    chunks = Math.max(chunks - 1, 2);
+                    reduced = true;
+                    break;
+                }
+            }
+            if (!reduced) {
+                if (chunks == current.size()) break;
+                chunks = Math.min(chunks * 2, current.size());
+            }
+        }
+        return new Result(current, tests, true);
+    }
+
+    /**
+     * Removes one chunk from an input cut into chunks of nearly equal size.
+     *
+     * @param lines  the input
+     * @param chunks number of chunks the input is cut into
+     * @param index  index of the chunk to remove
+     * @return the lines outside the chunk, in order
+     */
+    private static List<String> without(List<String> lines, int chunks, int index) {
+        int from = (int) ((long) lines.size() * index / chunks);
+        int to = (int) ((long) lines.size() * (index + 1) / chunks);
+        List<String> rest = new ArrayList<>(lines.size() - (to - from));
+        rest.addAll(lines.subList(0, from));
+        rest.addAll(lines.subList(to, lines.size()));
+        return List.copyOf(rest);
+    }
+}
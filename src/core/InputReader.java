@@ -1,14 +1,18 @@
 package core;
 
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 /**
  * Utility class for reading the text files containing puzzle inputs.
  * <p>
- * Provides methods to read all lines from a file and return them as a list of strings.
+ * Provides methods to read all lines from a file and return them as a list of strings,
+ * or to memory-map a file and expose its lines as zero-copy views.
  * </p>
  */
 public class InputReader {
@@ -30,4 +34,43 @@ public class InputReader {
             throw new RuntimeException("Error reading file: " + filePath, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Memory-maps a text file specified by its file path.
+     * <p>
+     * The file is mapped read-only with {@link FileChannel#map}, and its lines are
+     * exposed as views over the mapped buffer instead of decoded {@link String}s.
+     * Files larger than 2 GB cannot be mapped as a single buffer and are rejected.
+     * If the file cannot be read due to an {@link IOException}, this method
+     * wraps it in a {@link RuntimeException} and rethrows it.
+     * </p>
+     *
+     * @param filePath the path to the text file to map
+     * @return a {@link MappedInput} giving access to the lines of the file
+     * @throws RuntimeException if an I/O error occurs or the file is too large to map
+     */
+    public static MappedInput mapLines(String filePath) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new RuntimeException("File too large to map: " + filePath);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new MappedInput(buffer);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Builds the path of the input file for a given day and dataset.
+     *
+     * @param day     the day number
+     * @param dataset "test" for the example input, anything else for the full input
+     * @return the path to {@code src/days/dayNN/DayNNInput[Test].txt}
+     */
+    public static String inputPath(int day, String dataset) {
+        return String.format("src/days/day%02d/Day%02dInput%s.txt",
+                day, day, dataset.equals("test") ? "Test" : "");
+    }
+}
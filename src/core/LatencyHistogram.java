@@ -0,0 +1,104 @@
+package core;
+
+/**
+ * Fixed-size histogram of latencies expressed in nanoseconds.
+ * <p>
+ * Values are grouped by magnitude (power of two) and then split linearly into
+ * {@value #SUB_BUCKETS} sub-buckets, which bounds the relative error of any
+ * reported percentile to about 6% while keeping the histogram a single
+ * {@code long[]} regardless of how many values are recorded. The exact maximum is
+ * tracked separately. All methods are thread-safe.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    /** Number of linear sub-buckets per power of two. */
+    private static final int SUB_BUCKETS = 16;
+
+    /** Number of bits needed to index a sub-bucket. */
+    private static final int SUB_BITS = 4;
+
+    /** Bucket counts, indexed by {@link #bucketOf(long)}. */
+    private final long[] counts = new long[64 * SUB_BUCKETS];
+
+    /** Number of recorded values. */
+    private long total;
+
+    /** Largest recorded value. */
+    private long max;
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as 0
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        total++;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count of values
+     */
+    public synchronized long count() {
+        return total;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the maximum latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public synchronized long max() {
+        return max;
+    }
+
+    /**
+     * Returns an upper estimate of the given percentile.
+     *
+     * @param percentile the percentile to compute, between 0 and 100
+     * @return the latency in nanoseconds below which {@code percentile}% of the values
+     *         fall, or 0 if nothing was recorded
+     */
+    public synchronized long percentile(double percentile) {
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBound(i), max);
+        }
+        return max;
+    }
+
+    /**
+     * Computes the bucket index of a non-negative value.
+     *
+     * @param value the value to place
+     * @return the bucket index
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (magnitude - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Computes the largest value that falls into the given bucket.
+     *
+     * @param bucket the bucket index
+     * @return the inclusive upper bound of the bucket
+     */
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int magnitude = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        long lower = (1L << magnitude) | (sub << (magnitude - SUB_BITS));
+        return lower + (1L << (magnitude - SUB_BITS)) - 1;
+    }
+}
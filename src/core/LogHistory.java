@@ -0,0 +1,148 @@
+package core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timings read back from the execution log written by {@link TimeLogger}.
+ * <p>
+ * Steady-state MEASURE records are grouped by problem and mode, e.g. "Day8" and
+ * "Silver", and contribute their median. Single runs are skipped: they include JIT
+ * warm-up and may reuse a model prepared by the other part, so their times are not
+ * comparable with a measurement. SUMMARY records and lines that cannot be parsed are
+ * skipped too.
+ * </p>
+ * <p>
+ * The {@linkplain #baseline(String, String) baseline} of a problem is the median of its
+ * {@value #BASELINE_WINDOW} most recent MEASURE records.
+ * </p>
+ */
+public final class LogHistory {
+
+    /** Number of most recent records the baseline is computed from. */
+    public static final int BASELINE_WINDOW = 20;
+
+    /**
+     * Baseline time of a problem and mode.
+     *
+     * @param nanos   median of the recent MEASURE medians, in nanoseconds
+     * @param samples number of MEASURE records the median was taken from
+     */
+    public record Baseline(long nanos, int samples) {}
+
+    /** Medians of the MEASURE records, in log order, indexed by "problemId-mode". */
+    private final Map<String, List<Long>> measured = new HashMap<>();
+
+    /**
+     * Creates an empty history; use {@link #read()} to load one.
+     */
+    private LogHistory() {
+    }
+
+    /**
+     * Reads the history from the execution log.
+     *
+     * @return the history, empty if nothing was logged yet
+     * @throws UncheckedIOException if the log exists but cannot be read
+     */
+    public static LogHistory read() {
+        return read(TimeLogger.LOG_PATH);
+    }
+
+    /**
+     * Reads the history from a log file.
+     * <p>
+     * Bytes that are not valid UTF-8, e.g. in lines written with another default
+     * charset, are replaced instead of failing the whole read.
+     * </p>
+     *
+     * @param path the log file
+     * @return the history, empty if the file does not exist
+     * @throws UncheckedIOException if the file exists but cannot be read
+     */
+    public static LogHistory read(Path path) {
+        LogHistory history = new LogHistory();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8))) {
+            Cursor cursor = new Cursor("");
+            String line;
+            while ((line = reader.readLine()) != null) {
+                history.add(line, cursor);
+            }
+        } catch (NoSuchFileException e) {
+            return history;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read log " + path, e);
+        }
+        return history;
+    }
+
+    /**
+     * Returns the baseline time of a problem and mode.
+     *
+     * @param problemId identifier of the problem, e.g. "Day8" or "Day8x10"
+     * @param mode      mode in which the problem was executed, e.g. "Silver"
+     * @return the baseline, or {@code null} if the problem and mode were never measured
+     */
+    public Baseline baseline(String problemId, String mode) {
+        List<Long> times = measured.get(problemId + "-" + mode);
+        if (times == null) return null;
+
+        List<Long> recent = times.subList(Math.max(0, times.size() - BASELINE_WINDOW), times.size());
+        long[] samples = new long[recent.size()];
+        for (int i = 0; i < samples.length; i++) samples[i] = recent.get(i);
+        return new Baseline(Statistics.of(samples).median(), samples.length);
+    }
+
+    /**
+     * Parses one log line and records its median if it is a MEASURE record.
+     *
+     * @param line   the log line
+     * @param cursor cursor reused across lines
+     */
+    private void add(String line, Cursor cursor) {
+        int comma = line.indexOf(", ");
+        if (comma <= 0) return;
+        if (!line.startsWith("MEASURE", comma + 2)) return;
+        int median = line.indexOf("median=", comma);
+        if (median < 0) return;
+
+        try {
+            cursor.reset(line).seek(median + "median=".length());
+            long nanos = parseTime(cursor);
+            measured.computeIfAbsent(line.substring(0, comma), k -> new ArrayList<>()).add(nanos);
+        } catch (IllegalArgumentException e) {
+            // Not a timing written by this version of TimeLogger
+        }
+    }
+
+    /**
+     * Parses a time formatted as "S s : MS ms : US µs : NS ns".
+     *
+     * @param cursor cursor positioned at the seconds
+     * @return the time in nanoseconds
+     * @throws IllegalArgumentException if the time is malformed
+     */
+    private static long parseTime(Cursor cursor) {
+        long nanos = 0;
+        long[] units = {1_000_000_000L, 1_000_000L, 1_000L, 1L};
+        for (int i = 0; i < units.length; i++) {
+            nanos += cursor.nextLong() * units[i];
+            if (i < units.length - 1) {
+                if (!cursor.skipTo(':')) throw new IllegalArgumentException("Truncated time");
+                cursor.next();
+            }
+        }
+        return nanos;
+    }
+}
@@ -0,0 +1,41 @@
+package core;
+
+/**
+ * Switch selecting memory-lean strategies over the fastest ones.
+ * <p>
+ * Solvers that materialize large intermediate structures check {@link #isEnabled()}
+ * and, when it is set, fall back to strategies trading time for memory, e.g. scanning
+ * pairs again instead of storing and sorting all of them. Solvers without a lean
+ * strategy ignore it. {@link SolverRunner} also keeps a single prepared model instead
+ * of its usual cache. Results are the same in both modes.
+ * </p>
+ * <p>
+ * The mode is off by default. It can be turned on with {@link #setEnabled(boolean)},
+ * the {@code --low-footprint} command-line option, or the {@code -Daoc.lowFootprint=true}
+ * system property, e.g. to run inside a small heap such as {@code -Xmx256m}. Prepared
+ * models built before switching keep the strategy they were built with.
+ * </p>
+ */
+public class LowFootprint {
+
+    /** Whether memory-lean strategies are selected. */
+    private static volatile boolean enabled = Boolean.getBoolean("aoc.lowFootprint");
+
+    /**
+     * Enables or disables the low-footprint mode.
+     *
+     * @param value {@code true} to select the memory-lean strategies
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Returns whether the low-footprint mode is enabled.
+     *
+     * @return {@code true} if solvers should use their memory-lean strategies
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,193 @@
+package core;
+
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Puzzle input backed by a memory-mapped file.
+ * <p>
+ * The file is never decoded as a whole. Only the start and end offsets of every
+ * line are indexed when the input is created, and lines are then exposed as
+ * {@link ByteLine} views over the mapped buffer, so parsing runs directly off the
+ * page cache. Line terminators follow {@link java.nio.file.Files#readAllLines}:
+ * {@code \n}, {@code \r\n} and {@code \r} are accepted, and a trailing terminator
+ * does not produce an extra empty line.
+ * </p>
+ * <p>
+ * Existing solvers, which expect a {@code List<String>}, can consume this input
+ * through {@link #asLines()}.
+ * </p>
+ */
+public final class MappedInput {
+
+    /** Mapped contents of the file. */
+    private final MappedByteBuffer buffer;
+
+    /** Start offset of each line. */
+    private final int[] starts;
+
+    /** End offset (exclusive, terminator excluded) of each line. */
+    private final int[] ends;
+
+    /** Number of lines in the input. */
+    private final int count;
+
+    /**
+     * Indexes the lines of a mapped buffer.
+     *
+     * @param buffer the mapped contents of the file
+     */
+    MappedInput(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        int limit = buffer.limit();
+        int[] s = new int[64];
+        int[] e = new int[64];
+        int n = 0;
+        int lineStart = 0;
+
+        for (int pos = 0; pos < limit; pos++) {
+            byte b = buffer.get(pos);
+            if (b != '\n' && b != '\r') continue;
+
+            if (n == s.length) {
+                s = Arrays.copyOf(s, n * 2);
+                e = Arrays.copyOf(e, n * 2);
+            }
+            s[n] = lineStart;
+            e[n] = pos;
+            n++;
+
+            if (b == '\r' && pos + 1 < limit && buffer.get(pos + 1) == '\n') pos++;
+            lineStart = pos + 1;
+        }
+        if (lineStart < limit) {
+            if (n == s.length) {
+                s = Arrays.copyOf(s, n + 1);
+                e = Arrays.copyOf(e, n + 1);
+            }
+            s[n] = lineStart;
+            e[n] = limit;
+            n++;
+        }
+
+        this.starts = s;
+        this.ends = e;
+        this.count = n;
+    }
+
+    /**
+     * Returns the number of lines in the input.
+     *
+     * @return the line count
+     */
+    public int lineCount() {
+        return count;
+    }
+
+    /**
+     * Returns a zero-copy view of the given line.
+     *
+     * @param index index of the line
+     * @return a {@link ByteLine} over the bytes of the line
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid line index
+     */
+    public ByteLine line(int index) {
+        checkIndex(index);
+        return new ByteLine(buffer, starts[index], ends[index] - starts[index]);
+    }
+
+    /**
+     * Returns the length in bytes of the given line, without creating a view.
+     *
+     * @param index index of the line
+     * @return the number of bytes in the line
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid line index
+     */
+    public int lineLength(int index) {
+        checkIndex(index);
+        return ends[index] - starts[index];
+    }
+
+    /**
+     * Returns the byte at the given position of the given line, without creating a view.
+     *
+     * @param index  index of the line
+     * @param column position inside the line
+     * @return the byte at that position
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid line index
+     */
+    public byte byteAt(int index, int column) {
+        checkIndex(index);
+        return buffer.get(starts[index] + column);
+    }
+
+    /**
+     * Returns a read-only list of line views.
+     *
+     * @return a {@link List} of {@link CharSequence} backed by the mapped buffer
+     */
+    public List<CharSequence> asCharSequences() {
+        return new Views();
+    }
+
+    /**
+     * Returns a read-only {@code List<String>} adapter for existing solvers.
+     * <p>
+     * Lines are decoded lazily, one at a time, when they are requested.
+     * </p>
+     *
+     * @return a {@link List} of {@link String} backed by the mapped buffer
+     */
+    public List<String> asLines() {
+        return new Lines();
+    }
+
+    /**
+     * Validates a line index.
+     *
+     * @param index the index to check
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Line " + index + " out of bounds for " + count + " lines");
+        }
+    }
+
+    /**
+     * Read-only list of {@link ByteLine} views.
+     */
+    private final class Views extends AbstractList<CharSequence> implements RandomAccess {
+        @Override
+        public CharSequence get(int index) {
+            return line(index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+
+    /**
+     * Read-only list of lazily decoded lines.
+     */
+    private final class Lines extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int index) {
+            checkIndex(index);
+            int length = ends[index] - starts[index];
+            byte[] bytes = new byte[length];
+            buffer.get(starts[index], bytes, 0, length);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
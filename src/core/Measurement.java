@@ -0,0 +1,61 @@
+package core;
+
+import java.util.List;
+
+/**
+ * Result of a steady-state measurement of one part of a problem.
+ * <p>
+ * A measurement first runs a number of unmeasured warm-up iterations, giving the JIT
+ * compiler time to optimize the solver, and then times each measured iteration.
+ * Every iteration works on the same input and includes parsing, so
+ * {@link PreparedSolver}s are measured the same way as the other solvers.
+ * </p>
+ *
+ * @param result     the puzzle result of the last iteration
+ * @param warmup     number of warm-up iterations that were run
+ * @param statistics statistics of the measured iterations
+ */
+public record Measurement(long result, int warmup, Statistics statistics) {
+
+    /**
+     * Runs the warm-up and measured iterations of one part of a problem.
+     *
+     * @param solver     the solver to measure
+     * @param input      the input lines; never modified
+     * @param part       the part to solve
+     * @param warmup     number of warm-up iterations, may be 0
+     * @param iterations number of measured iterations, at least 1
+     * @return the measurement
+     * @throws IllegalArgumentException if {@code iterations} is less than 1 or {@code warmup} is negative
+     */
+    public static Measurement run(Solver solver, List<String> input, Part part, int warmup, int iterations) {
+        if (iterations < 1 || warmup < 0) {
+            throw new IllegalArgumentException("Invalid iteration counts: " + warmup + " warm-up, " + iterations + " measured");
+        }
+        for (int i = 0; i < warmup; i++) {
+            solveOnce(solver, input, part);
+        }
+
+        long[] samples = new long[iterations];
+        long result = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            result = (part == Part.SILVER) ? solver.solveSilver(input) : solver.solveGold(input);
+            samples[i] = System.nanoTime() - start;
+        }
+
+        return new Measurement(result, warmup, Statistics.of(samples));
+    }
+
+    /**
+     * Solves one part of the problem without timing it.
+     *
+     * @param solver the solver to run
+     * @param input  the input lines
+     * @param part   the part to solve
+     * @return the puzzle result
+     */
+    private static long solveOnce(Solver solver, List<String> input, Part part) {
+        return (part == Part.SILVER) ? solver.solveSilver(input) : solver.solveGold(input);
+    }
+}
@@ -0,0 +1,231 @@
+package core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Parallel map-reduce over the index range of a solver's input, on the common fork-join pool.
+ * <p>
+ * The range {@code [0, size)} is split in halves until the pieces are no longer than
+ * the chunk size. Each chunk is summarized independently, possibly on another thread,
+ * and the summaries are merged pairwise in index order, so the combine function only
+ * needs to be associative, not commutative. The chunk size is chosen to give every
+ * worker of the pool a few chunks, but never drops below the minimum given by the
+ * solver, which should reflect how much work one element represents.
+ * </p>
+ * <p>
+ * Inputs too small to be worth splitting are summarized as a single chunk on the calling
+ * thread. Chunks run under the {@link SolveContext} of the caller, which is checked
+ * before each chunk, so a cancelled solve stops without summarizing the remaining
+ * chunks.
+ * </p>
+ * <p>
+ * Parallel execution is on by default. It can be turned off with {@link #setEnabled(boolean)},
+ * the {@code --sequential} command-line option, or the {@code -Daoc.sequential=true} system
+ * property, e.g. to measure the single-threaded cost of a solver.
+ * </p>
+ */
+public class ParallelReduce {
+
+    /** Target number of chunks per worker of the pool, to even out uneven chunks. */
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    /** Whether ranges are split across the pool. */
+    private static volatile boolean enabled = !Boolean.getBoolean("aoc.sequential");
+
+    /** Forced chunk size, or 0 to size chunks from the pool and the solver's minimum. */
+    private static volatile int forcedChunk = 0;
+
+    /**
+     * Summarizes one chunk of the input.
+     *
+     * @param <S> type of the summary
+     */
+    @FunctionalInterface
+    public interface Chunk<S> {
+        /**
+         * Summarizes the elements {@code [from, to)}.
+         *
+         * @param from first index of the chunk, inclusive
+         * @param to   last index of the chunk, exclusive
+         * @return the summary of the chunk
+         */
+        S summarize(int from, int to);
+    }
+
+    /**
+     * Sums one chunk of the input.
+     */
+    @FunctionalInterface
+    public interface ChunkSum {
+        /**
+         * Sums the contributions of the elements {@code [from, to)}.
+         *
+         * @param from first index of the chunk, inclusive
+         * @param to   last index of the chunk, exclusive
+         * @return the sum of the chunk
+         */
+        long sum(int from, int to);
+    }
+
+    /**
+     * Enables or disables parallel execution.
+     *
+     * @param value {@code false} to summarize every range as a single chunk on the calling thread
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Returns whether parallel execution is enabled.
+     *
+     * @return {@code true} if large ranges are split across the pool
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Forces the chunk size, regardless of the pool size and the solver's minimum.
+     * <p>
+     * Meant for verification: tiny chunks exercise the splitting and merging of a solver
+     * on inputs small enough to be minimized. Ignored while parallel execution is disabled.
+     * </p>
+     *
+     * @param chunkSize largest number of elements of a chunk, or 0 to restore automatic sizing
+     * @throws IllegalArgumentException if {@code chunkSize} is negative
+     */
+    public static void setForcedChunk(int chunkSize) {
+        if (chunkSize < 0) throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        forcedChunk = chunkSize;
+    }
+
+    /**
+     * Tells whether a range would be split into several chunks.
+     * <p>
+     * Solvers whose chunk summaries cost more than their plain sequential loop use it to
+     * keep that loop for small inputs.
+     * </p>
+     *
+     * @param size     number of elements
+     * @param minChunk smallest number of elements worth a chunk of its own
+     * @return {@code true} if {@link #reduce} would split the range
+     */
+    public static boolean splits(int size, int minChunk) {
+        return size > chunkSize(size, minChunk);
+    }
+
+    /**
+     * Summarizes every chunk of {@code [0, size)} and merges the summaries in index order.
+     *
+     * @param size      number of elements, at least 1
+     * @param minChunk  smallest number of elements worth a chunk of its own, at least 1
+     * @param chunk     summarizes a chunk
+     * @param combine   merges the summaries of two adjacent chunks, left one first; must be associative
+     * @param <S>       type of the summary
+     * @return the summary of the whole range
+     * @throws SolveCancelledException if the solve was cancelled or ran out of time
+     */
+    public static <S> S reduce(int size, int minChunk, Chunk<S> chunk, BinaryOperator<S> combine) {
+        int chunkSize = chunkSize(size, minChunk);
+        if (size <= chunkSize) {
+            return chunk.summarize(0, size);
+        }
+        SolveContext context = SolveContext.current();
+        return ForkJoinPool.commonPool().invoke(new Task<>(0, size, chunkSize, chunk, combine, context));
+    }
+
+    /**
+     * Sums every chunk of {@code [0, size)}.
+     *
+     * @param size     number of elements, at least 1
+     * @param minChunk smallest number of elements worth a chunk of its own, at least 1
+     * @param chunk    sums a chunk
+     * @return the sum over the whole range
+     * @throws SolveCancelledException if the solve was cancelled or ran out of time
+     */
+    public static long sum(int size, int minChunk, ChunkSum chunk) {
+        return reduce(size, minChunk, chunk::sum, Long::sum);
+    }
+
+    /**
+     * Computes the chunk size of a range.
+     *
+     * @param size     number of elements
+     * @param minChunk smallest number of elements worth a chunk of its own
+     * @return the largest number of elements of a chunk
+     */
+    private static int chunkSize(int size, int minChunk) {
+        if (!enabled) return Math.max(size, 1);
+        int forced = forcedChunk;
+        if (forced > 0) return forced;
+        int workers = ForkJoinPool.getCommonPoolParallelism();
+        if (workers < 2) return Math.max(size, 1);
+        long target = ((long) size + (long) workers * CHUNKS_PER_WORKER - 1) / ((long) workers * CHUNKS_PER_WORKER);
+        return (int) Math.max(Math.max(minChunk, 1), target);
+    }
+
+    /**
+     * Fork-join task summarizing a range, split in halves down to the chunk size.
+     *
+     * @param <S> type of the summary
+     */
+    private static final class Task<S> extends RecursiveTask<S> {
+
+        /** Serialization version. */
+        private static final long serialVersionUID = 1L;
+
+        /** First index of the range, inclusive. */
+        private final int from;
+
+        /** Last index of the range, exclusive. */
+        private final int to;
+
+        /** Largest number of elements summarized without splitting. */
+        private final int chunkSize;
+
+        /** Summarizes a chunk. */
+        private final transient Chunk<S> chunk;
+
+        /** Merges two adjacent summaries. */
+        private final transient BinaryOperator<S> combine;
+
+        /** Context of the calling solve, installed on the worker running each chunk. */
+        private final transient SolveContext context;
+
+        /**
+         * Creates a task for a range.
+         *
+         * @param from      first index, inclusive
+         * @param to        last index, exclusive
+         * @param chunkSize largest number of elements summarized without splitting
+         * @param chunk     summarizes a chunk
+         * @param combine   merges two adjacent summaries
+         * @param context   context of the calling solve
+         */
+        Task(int from, int to, int chunkSize, Chunk<S> chunk, BinaryOperator<S> combine, SolveContext context) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.chunk = chunk;
+            this.combine = combine;
+            this.context = context;
+        }
+
+        @Override
+        protected S compute() {
+            if (to - from <= chunkSize) {
+                context.checkpoint();
+                return context.call(() -> chunk.summarize(from, to));
+            }
+            int mid = (from + to) >>> 1;
+            Task<S> left = new Task<>(from, mid, chunkSize, chunk, combine, context);
+            Task<S> right = new Task<>(mid, to, chunkSize, chunk, combine, context);
+            left.fork();
+            S rightSummary = right.compute();
+            return combine.apply(left.join(), rightSummary);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package core;
+
+/**
+ * The two variants of every daily problem.
+ * <p>
+ * Each constant carries the label used when displaying results and writing
+ * execution logs.
+ * </p>
+ */
+public enum Part {
+    /** First variant of the problem, worth the silver star. */
+    SILVER("Silver"),
+
+    /** Second variant of the problem, worth the gold star. */
+    GOLD("Gold");
+
+    /** Human-readable label of the part. */
+    private final String label;
+
+    /**
+     * Creates a part with its display label.
+     *
+     * @param label human-readable label of the part
+     */
+    Part(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the human-readable label of the part.
+     *
+     * @return "Silver" or "Gold"
+     */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Returns the part matching the number used in the user interfaces.
+     *
+     * @param number 1 for Silver, 2 for Gold
+     * @return the corresponding {@link Part}
+     * @throws IllegalArgumentException if the number is neither 1 nor 2
+     */
+    public static Part of(int number) {
+        return switch (number) {
+            case 1 -> SILVER;
+            case 2 -> GOLD;
+            default -> throw new IllegalArgumentException("Unknown part: " + number);
+        };
+    }
+}
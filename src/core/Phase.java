@@ -0,0 +1,67 @@
+package core;
+
+/**
+ * Scope marking an internal phase of a solver for Java Flight Recorder.
+ * <p>
+ * Intended for try-with-resources, so the phase is closed even if the solver throws:
+ * </p>
+ * <pre>{@code
+ * try (Phase ignored = Phase.start("Playground.sort")) {
+ *     pairs.sort(...);
+ * }
+ * }</pre>
+ * <p>
+ * Since the resource is never referenced in the body, {@code -Xlint:try} warns about such
+ * statements; methods opening phases carry {@code @SuppressWarnings("try")}.
+ * </p>
+ * <p>
+ * When no recording is running, the phase only costs an enabled check and returns a
+ * shared phase without allocating, so it is safe to leave in place permanently, even
+ * in code that is measured.
+ * </p>
+ */
+public final class Phase implements AutoCloseable {
+
+    /**
+     * Event never committed, only asked whether phase events are enabled, so that a
+     * disabled phase allocates nothing.
+     */
+    private static final PhaseEvent PROBE = new PhaseEvent();
+
+    /** Phase returned while phase events are disabled, closing as a no-op. */
+    private static final Phase DISABLED = new Phase(null);
+
+    /** Underlying event, {@code null} when phase events are disabled. */
+    private final PhaseEvent event;
+
+    /**
+     * Creates a phase backed by the given event.
+     *
+     * @param event the started event, or {@code null}
+     */
+    private Phase(PhaseEvent event) {
+        this.event = event;
+    }
+
+    /**
+     * Starts a new phase.
+     *
+     * @param name name of the phase, conventionally "SolverClass.phase"
+     * @return the started phase, to be closed when the phase ends
+     */
+    public static Phase start(String name) {
+        if (!PROBE.isEnabled()) return DISABLED;
+        PhaseEvent event = new PhaseEvent();
+        event.phase = name;
+        event.begin();
+        return new Phase(event);
+    }
+
+    /**
+     * Ends the phase and commits its event.
+     */
+    @Override
+    public void close() {
+        if (event != null) event.commit();
+    }
+}
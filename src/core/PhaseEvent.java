@@ -0,0 +1,23 @@
+package core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event emitted around an internal phase of a solver.
+ * <p>
+ * Phases are opened by solvers through {@link Phase#start(String)}.
+ * </p>
+ */
+@Name("aoc.Phase")
+@Label("Solver Phase")
+@Category("Advent of Code")
+@Description("Internal phase of a solver, such as parsing or sorting")
+class PhaseEvent extends jdk.jfr.Event {
+
+    /** Name of the phase, e.g. "Playground.sort". */
+    @Label("Phase")
+    String phase;
+}
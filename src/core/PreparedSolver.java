@@ -0,0 +1,66 @@
+package core;
+
+import java.util.List;
+
+/**
+ * {@link Solver} whose input is parsed once and shared by both variants of the problem.
+ * <p>
+ * Implementing classes split their work into a {@link #prepare(List)} phase, which
+ * parses and preprocesses the raw input into a model of type {@code T}, and two
+ * solve methods that consume that model. {@link SolverRunner} caches the prepared
+ * model per input, so running both parts only pays for parsing once.
+ * </p>
+ * <p>
+ * Since the same model may be handed to both parts, solve methods must treat it as
+ * read-only.
+ * </p>
+ *
+ * @param <T> type of the parsed model
+ */
+public interface PreparedSolver<T> extends Solver {
+    /**
+     * Parses and preprocesses the input into the model consumed by both parts.
+     *
+     * @param input a {@link List} of {@link String} representing the input data
+     * @return the parsed model
+     */
+    T prepare(List<String> input);
+
+    /**
+     * Solves the "Silver" variant of the problem using an already prepared model.
+     *
+     * @param model the model returned by {@link #prepare(List)}
+     * @return the result of the "Silver" problem as a {@code long}
+     */
+    long solveSilverPrepared(T model);
+
+    /**
+     * Solves the "Gold" variant of the problem using an already prepared model.
+     *
+     * @param model the model returned by {@link #prepare(List)}
+     * @return the result of the "Gold" problem as a {@code long}
+     */
+    long solveGoldPrepared(T model);
+
+    /**
+     * Prepares the input and solves the "Silver" variant of the problem.
+     *
+     * @param input a {@link List} of {@link String} representing the input data
+     * @return the result of the "Silver" problem as a {@code long}
+     */
+    @Override
+    default long solveSilver(List<String> input) {
+        return solveSilverPrepared(prepare(input));
+    }
+
+    /**
+     * Prepares the input and solves the "Gold" variant of the problem.
+     *
+     * @param input a {@link List} of {@link String} representing the input data
+     * @return the result of the "Gold" problem as a {@code long}
+     */
+    @Override
+    default long solveGold(List<String> input) {
+        return solveGoldPrepared(prepare(input));
+    }
+}
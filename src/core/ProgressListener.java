@@ -0,0 +1,20 @@
+package core;
+
+/**
+ * Callback receiving the progress reported by a solver through its {@link SolveContext}.
+ * <p>
+ * Listeners are called on the solving thread, every time the solver reports progress,
+ * so they must return quickly; throttling the output is up to the listener.
+ * </p>
+ */
+@FunctionalInterface
+public interface ProgressListener {
+    /**
+     * Receives a progress report.
+     *
+     * @param done  units of work completed so far
+     * @param total total units of work, or 0 if unknown
+     * @param unit  name of the units, e.g. "regions" or "ranges"
+     */
+    void onProgress(long done, long total, String unit);
+}
@@ -0,0 +1,141 @@
+package core;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+
+/**
+ * Captures allocation, GC and heap activity around a solver run.
+ * <p>
+ * A probe is started right before the solver is invoked and stopped right after,
+ * on the same thread. Allocated bytes come from
+ * {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()} and are
+ * therefore exact for single-threaded solvers. GC counts, GC time and peak heap
+ * usage are JVM-wide, so they are only attributable to one run when no other
+ * solver executes concurrently. Metrics the JVM does not support are reported as -1.
+ * </p>
+ * <p>
+ * Native memory is the peak usage of the non-heap pools (metaspace, code cache) plus
+ * the direct and mapped buffers in use when the probe stops, which covers what the JVM
+ * can account for without native memory tracking.
+ * </p>
+ */
+public class ResourceProbe {
+
+    /** Thread bean used to read per-thread allocation counters. */
+    private static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /** Collectors whose counters are summed. */
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    /** Heap memory pools whose peak usage is tracked. */
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+
+    /** Non-heap memory pools whose peak usage is tracked. */
+    private static final List<MemoryPoolMXBean> NON_HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.NON_HEAP)
+            .toList();
+
+    /** Direct and mapped buffer pools. */
+    private static final List<BufferPoolMXBean> BUFFER_POOLS = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class);
+
+    /** Allocated bytes of the current thread when the probe started. */
+    private final long startAllocated;
+
+    /** Total GC count when the probe started. */
+    private final long startGcCount;
+
+    /** Total GC time when the probe started. */
+    private final long startGcMillis;
+
+    /**
+     * Records the starting counters and resets the heap and non-heap peak usage.
+     */
+    private ResourceProbe() {
+        HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+        NON_HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+        this.startGcCount = gcCount();
+        this.startGcMillis = gcMillis();
+        this.startAllocated = allocatedBytes();
+    }
+
+    /**
+     * Starts a probe on the current thread.
+     *
+     * @return the started probe
+     */
+    public static ResourceProbe start() {
+        return new ResourceProbe();
+    }
+
+    /**
+     * Stops the probe and computes the activity since it was started.
+     * <p>
+     * Must be called on the thread that started the probe.
+     * </p>
+     *
+     * @return the observed {@link ResourceUsage}
+     */
+    public ResourceUsage stop() {
+        long allocated = allocatedBytes();
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : HEAP_POOLS) {
+            peakHeap += pool.getPeakUsage().getUsed();
+        }
+        long nativeBytes = 0;
+        for (MemoryPoolMXBean pool : NON_HEAP_POOLS) {
+            nativeBytes += pool.getPeakUsage().getUsed();
+        }
+        for (BufferPoolMXBean pool : BUFFER_POOLS) {
+            nativeBytes += Math.max(0, pool.getMemoryUsed());
+        }
+        return new ResourceUsage(
+                (startAllocated < 0 || allocated < 0) ? -1 : allocated - startAllocated,
+                gcCount() - startGcCount,
+                gcMillis() - startGcMillis,
+                peakHeap,
+                nativeBytes
+        );
+    }
+
+    /**
+     * Reads the bytes allocated so far by the current thread.
+     *
+     * @return the allocated bytes, or -1 if the JVM does not support it
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean sunThreads
+                && sunThreads.isThreadAllocatedMemorySupported()
+                && sunThreads.isThreadAllocatedMemoryEnabled()) {
+            return sunThreads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Sums the collection counts of all collectors.
+     *
+     * @return the total number of collections
+     */
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) count += Math.max(0, gc.getCollectionCount());
+        return count;
+    }
+
+    /**
+     * Sums the collection times of all collectors.
+     *
+     * @return the total collection time in milliseconds
+     */
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) millis += Math.max(0, gc.getCollectionTime());
+        return millis;
+    }
+}
@@ -0,0 +1,44 @@
+package core;
+
+/**
+ * Memory and garbage-collection activity observed during a solver run.
+ *
+ * @param allocatedBytes bytes allocated by the solving thread
+ * @param gcCount        number of garbage collections that ran
+ * @param gcMillis       accumulated garbage-collection time, in milliseconds
+ * @param peakHeapBytes  peak heap usage, summed over all heap memory pools
+ * @param nativeBytes    peak non-heap pool usage plus direct and mapped buffers in use
+ */
+public record ResourceUsage(long allocatedBytes, long gcCount, long gcMillis, long peakHeapBytes, long nativeBytes) {
+
+    /**
+     * Formats the usage as a compact, human-readable summary.
+     *
+     * @return e.g. {@code "alloc=12.4 MB, gc=3 (8 ms), peak heap=96.0 MB, native=24.1 MB"}
+     */
+    public String describe() {
+        return "alloc=" + formatBytes(allocatedBytes)
+                + ", gc=" + gcCount + " (" + gcMillis + " ms)"
+                + ", peak heap=" + formatBytes(peakHeapBytes)
+                + ", native=" + formatBytes(nativeBytes);
+    }
+
+    /**
+     * Formats a byte count using the largest fitting binary unit.
+     *
+     * @param bytes the number of bytes, or a negative value if unknown
+     * @return the formatted size, or "n/a" if unknown
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 0) return "n/a";
+        if (bytes < 1024) return bytes + " B";
+        String[] units = {"KB", "MB", "GB", "TB"};
+        double value = bytes;
+        int unit = -1;
+        while (value >= 1024 && unit < units.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return String.format("%.1f %s", value, units[unit]);
+    }
+}
@@ -0,0 +1,149 @@
+package core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Persistent, content-addressed cache of solver results.
+ * <p>
+ * Each result is stored in its own file under "cache/results", named after the
+ * SHA-256 of the solver, the part, the solver's {@link SolverVersion} stamp and
+ * the {@link InputDigest} of the input. Changing the input or recompiling the solver
+ * with different code changes the key, so stale entries are never returned; they are
+ * simply left unused. Solvers are identified by their class and, for those of the
+ * {@link SolverRegistry}, their implementation name, so falling back to another
+ * implementation of a day never returns the results of the first one. Each file also records the fields of its key, which are checked
+ * on read.
+ * </p>
+ * <p>
+ * The cache is enabled by default. It can be bypassed with {@link #setEnabled(boolean)},
+ * the {@code --no-cache} command-line option, or the {@code -Daoc.noCache=true} system
+ * property, e.g. while benchmarking.
+ * </p>
+ */
+public class ResultCache {
+
+    /** Directory holding the cached results. */
+    private static final Path CACHE_DIR = Paths.get("cache", "results");
+
+    /** Whether lookups and stores are performed. */
+    private static volatile boolean enabled = !Boolean.getBoolean("aoc.noCache");
+
+    /**
+     * Enables or disables the cache.
+     *
+     * @param value {@code false} to bypass the cache entirely
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Returns whether the cache is enabled.
+     *
+     * @return {@code true} if lookups and stores are performed
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Looks up the cached result of a solver run.
+     *
+     * @param solver      the solver
+     * @param part        the solved part
+     * @param inputDigest the {@link InputDigest} of the input
+     * @return the cached result, or empty on a miss or when the cache is disabled
+     */
+    public static OptionalLong get(Solver solver, Part part, String inputDigest) {
+        if (!enabled) return OptionalLong.empty();
+        Path file = fileFor(solver, part, inputDigest);
+        if (!Files.isRegularFile(file)) return OptionalLong.empty();
+
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (lines.size() != 5
+                    || !lines.get(0).equals("solver=" + solverId(solver))
+                    || !lines.get(1).equals("part=" + part.label())
+                    || !lines.get(2).equals("version=" + SolverVersion.of(solver))
+                    || !lines.get(3).equals("input=" + inputDigest)
+                    || !lines.get(4).startsWith("result=")) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(Long.parseLong(lines.get(4).substring("result=".length())));
+        } catch (IOException | NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Stores the result of a solver run.
+     * <p>
+     * The entry is written to a temporary file and then moved into place, so
+     * concurrent readers never see a partial entry. Write failures are reported
+     * on the error stream and otherwise ignored.
+     * </p>
+     *
+     * @param solver      the solver
+     * @param part        the solved part
+     * @param inputDigest the {@link InputDigest} of the input
+     * @param result      the result to store
+     */
+    public static void put(Solver solver, Part part, String inputDigest, long result) {
+        if (!enabled) return;
+        Path file = fileFor(solver, part, inputDigest);
+        String content = "solver=" + solverId(solver) + "\n"
+                + "part=" + part.label() + "\n"
+                + "version=" + SolverVersion.of(solver) + "\n"
+                + "input=" + inputDigest + "\n"
+                + "result=" + result + "\n";
+        try {
+            Files.createDirectories(CACHE_DIR);
+            Path tmp = Files.createTempFile(CACHE_DIR, "entry", ".tmp");
+            Files.writeString(tmp, content, StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Error writing result cache: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Computes the file holding the entry for the given key.
+     *
+     * @param solver      the solver
+     * @param part        the solved part
+     * @param inputDigest the {@link InputDigest} of the input
+     * @return the path of the cache entry
+     */
+    private static Path fileFor(Solver solver, Part part, String inputDigest) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        String key = solverId(solver) + "|" + part.name() + "|"
+                + SolverVersion.of(solver) + "|" + inputDigest;
+        String name = HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        return CACHE_DIR.resolve(name + ".result");
+    }
+
+    /**
+     * Identifies a solver in cache keys.
+     *
+     * @param solver the solver
+     * @return the class of the solver doing the work, followed by "#" and the name of its
+     *         implementation if the solver comes from the {@link SolverRegistry}
+     */
+    private static String solverId(Solver solver) {
+        String name = SolverRegistry.nameOf(solver);
+        String type = SolverVariant.unwrap(solver).getClass().getName();
+        return (name == null) ? type : type + "#" + name;
+    }
+}
@@ -0,0 +1,37 @@
+package core;
+
+/**
+ * Thrown by {@link SolveContext#checkpoint()} when a solve was cancelled or ran out of time.
+ * <p>
+ * The message states the cause and the last progress reported by the solver, so a
+ * runner can report how far the solve got before giving up.
+ * </p>
+ */
+public class SolveCancelledException extends RuntimeException {
+
+    /** Serialization version. */
+    private static final long serialVersionUID = 1L;
+
+    /** Whether the solve was stopped by its deadline rather than by an explicit cancellation. */
+    private final boolean expired;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message description of the cause and the progress made
+     * @param expired {@code true} if the deadline passed, {@code false} if cancelled
+     */
+    public SolveCancelledException(String message, boolean expired) {
+        super(message);
+        this.expired = expired;
+    }
+
+    /**
+     * Returns whether the solve was stopped by its deadline.
+     *
+     * @return {@code true} if the time budget ran out, {@code false} if the solve was cancelled
+     */
+    public boolean expired() {
+        return expired;
+    }
+}
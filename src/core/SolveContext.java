@@ -0,0 +1,213 @@
+package core;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Cooperative cancellation, deadline and progress reporting for a single solve.
+ * <p>
+ * Runners {@linkplain #call(Supplier) install} a context on the solving thread, and
+ * long-running solvers fetch it with {@link #current()} and poll it from their loops:
+ * {@link #checkpoint()} in coarse loops, e.g. once per region or range, and the
+ * {@link Ticker#tick()} of a {@link #ticker()} in hot loops or recursions, where it only
+ * checks every {@value #TICK_INTERVAL} calls. Both throw a {@link SolveCancelledException}
+ * once the context is cancelled or its deadline has passed. Solvers that never poll
+ * simply run to completion.
+ * </p>
+ * <p>
+ * Progress reported through {@link #progress(long, long, String)} is forwarded to the
+ * {@link ProgressListener} of the context and kept, so an expired solve can tell how far
+ * it got. Without an installed context, solvers get an unbounded one that ignores progress.
+ * </p>
+ * <p>
+ * A context may be cancelled from any thread and polled from several, e.g. when
+ * {@linkplain SolverRunner#solveParts parts share it}. Its state is only written on
+ * cancellation and progress reports; the tick countdown lives in a {@link Ticker}, which
+ * each solving thread obtains for itself, so hot loops never write shared memory.
+ * </p>
+ */
+public final class SolveContext {
+
+    /** Number of {@link Ticker#tick()} calls between two actual checks. */
+    public static final int TICK_INTERVAL = 1024;
+
+    /** Context used when none is installed: no deadline, no listener, never cancelled. */
+    private static final SolveContext UNBOUNDED = new SolveContext(null, null);
+
+    /** Context installed on each solving thread. */
+    private static final ThreadLocal<SolveContext> CURRENT = new ThreadLocal<>();
+
+    /** Time at which the budget expires, per {@link System#nanoTime()}; meaningless without a budget. */
+    private final long deadline;
+
+    /** Time budget, or {@code null} if unbounded. */
+    private final Duration budget;
+
+    /** Receiver of progress reports, or {@code null}. */
+    private final ProgressListener listener;
+
+    /** Whether {@link #cancel()} was called. */
+    private volatile boolean cancelled;
+
+    /** Last progress reported: completed units. */
+    private volatile long done;
+
+    /** Last progress reported: total units, 0 if unknown. */
+    private volatile long total;
+
+    /** Last progress reported: name of the units, {@code null} if none was reported. */
+    private volatile String unit;
+
+    /**
+     * Countdown polling a context every {@value #TICK_INTERVAL} calls, confined to the
+     * thread that obtained it from {@link #ticker()}.
+     */
+    public static final class Ticker {
+
+        /** Context checked when the countdown runs out, or {@code null} if it is never checked. */
+        private final SolveContext context;
+
+        /** Calls of {@link #tick()} left before the next check. */
+        private int countdown = TICK_INTERVAL;
+
+        /**
+         * Creates a ticker.
+         *
+         * @param context the context to check, or {@code null} to never check one
+         */
+        private Ticker(SolveContext context) {
+            this.context = context;
+        }
+
+        /**
+         * Checks whether the solve must stop, every {@value #TICK_INTERVAL} calls.
+         *
+         * @throws SolveCancelledException if the context was cancelled or its deadline has passed
+         */
+        public void tick() {
+            if (--countdown > 0) return;
+            countdown = TICK_INTERVAL;
+            if (context != null) context.checkpoint();
+        }
+    }
+
+    /**
+     * Creates a context; the budget starts running immediately.
+     *
+     * @param budget   maximum solve time, or {@code null} for no limit
+     * @param listener receiver of progress reports, or {@code null}
+     */
+    private SolveContext(Duration budget, ProgressListener listener) {
+        this.budget = budget;
+        this.deadline = (budget == null) ? 0 : System.nanoTime() + budget.toNanos();
+        this.listener = listener;
+    }
+
+    /**
+     * Creates a context whose budget starts running now.
+     *
+     * @param budget   maximum solve time, or {@code null} for no limit
+     * @param listener receiver of progress reports, or {@code null}
+     * @return the new context
+     */
+    public static SolveContext create(Duration budget, ProgressListener listener) {
+        return new SolveContext(budget, listener);
+    }
+
+    /**
+     * Returns the context installed on the current thread.
+     *
+     * @return the installed context, or an unbounded one if none is installed
+     */
+    public static SolveContext current() {
+        SolveContext context = CURRENT.get();
+        return (context != null) ? context : UNBOUNDED;
+    }
+
+    /**
+     * Runs an action with this context installed on the current thread.
+     *
+     * @param action the action to run, typically a solve
+     * @param <T>    type of the result
+     * @return the result of the action
+     * @throws SolveCancelledException if the action polled the context after it was cancelled or expired
+     */
+    public <T> T call(Supplier<T> action) {
+        SolveContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Requests the solve to stop at its next check.
+     * <p>
+     * Has no effect on the unbounded context returned when none is installed.
+     * </p>
+     */
+    public void cancel() {
+        if (this != UNBOUNDED) cancelled = true;
+    }
+
+    /**
+     * Checks whether the solve must stop.
+     *
+     * @throws SolveCancelledException if the context was cancelled or its deadline has passed
+     */
+    public void checkpoint() {
+        if (cancelled) {
+            throw new SolveCancelledException("Cancelled " + describeProgress(), false);
+        }
+        if (budget != null && System.nanoTime() - deadline > 0) {
+            throw new SolveCancelledException(
+                    "Time budget of " + budget.toMillis() + " ms exceeded " + describeProgress(), true);
+        }
+    }
+
+    /**
+     * Returns a new ticker polling this context, for use by the calling thread only.
+     * <p>
+     * The ticker of the unbounded context never checks it, since it can neither be
+     * cancelled nor expire.
+     * </p>
+     *
+     * @return the ticker
+     */
+    public Ticker ticker() {
+        return new Ticker((this == UNBOUNDED) ? null : this);
+    }
+
+    /**
+     * Reports the progress of the solve and forwards it to the listener.
+     *
+     * @param done  units of work completed so far
+     * @param total total units of work, or 0 if unknown
+     * @param unit  name of the units, e.g. "regions"
+     */
+    public void progress(long done, long total, String unit) {
+        if (this == UNBOUNDED) return;
+        this.unit = unit;
+        this.total = total;
+        this.done = done;
+        if (listener != null) listener.onProgress(done, total, unit);
+    }
+
+    /**
+     * Describes the last progress reported.
+     *
+     * @return e.g. "after 12/1000 regions", or "before any progress was reported"
+     */
+    public String describeProgress() {
+        String u = unit;
+        if (u == null) return "before any progress was reported";
+        long t = total;
+        return "after " + done + ((t > 0) ? "/" + t : "") + " " + u;
+    }
+}
@@ -0,0 +1,33 @@
+package core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event emitted around each solver run.
+ * <p>
+ * The event duration covers the whole run, including the preparation of the
+ * input for {@link PreparedSolver}s, so {@link PhaseEvent}s recorded on the same
+ * thread during that interval belong to it.
+ * </p>
+ */
+@Name("aoc.Solve")
+@Label("Solve")
+@Category("Advent of Code")
+@Description("Execution of one part of a daily problem")
+class SolveEvent extends jdk.jfr.Event {
+
+    /** Simple name of the solver class. */
+    @Label("Solver")
+    String solver;
+
+    /** Solved part, "Silver" or "Gold". */
+    @Label("Part")
+    String part;
+
+    /** Puzzle result returned by the solver. */
+    @Label("Result")
+    long result;
+}
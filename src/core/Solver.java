@@ -8,6 +8,10 @@ import java.util.List;
  * Defines methods to solve the two variants of each problem: "Silver" and "Gold".
  * Implementing classes provide specific logic for each variant.
  * </p>
+ * <p>
+ * Implementations must not modify the input list they receive: runners may hand the
+ * same list to both parts at once, and read-only lists are passed as is.
+ * </p>
  */
 public interface Solver {
     /**
@@ -14,42 +14,231 @@ import days.day11.Reactor;
 import days.day12.TreeFarm;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Registry for all problem solvers, mapping each day to its corresponding {@link Solver} implementation.
+ * Registry for all problem solvers, mapping each day to its named {@link Solver} implementations.
  * <p>
- * This class initializes a static map of solvers for days 1 through 12. Each day is associated
- * with a specific solver class that implements the {@link Solver} interface.
+ * Each day from 1 through 12 lists its implementations as {@link SolverVariant}s: the
+ * {@value SolverVariant#REFERENCE} implementation first, then every implementation taking
+ * a fast path, which the {@code verify} command checks against the reference. One of them
+ * is the day's default, the fastest one in general, and {@link #get(int)} returns the
+ * implementation currently selected for the day, the default unless
+ * {@link #select(int, String)} picked another one, e.g. to fall back to the reference.
+ * </p>
+ * <p>
+ * Solvers are created on the first request for their day and implementation and then
+ * reused, so only the requested days and their dependencies are loaded: asking for Day 01
+ * never loads the optimisation library used by Day 10. The factories are lambdas rather
+ * than constructor references, since linking a constructor reference would load the
+ * solver class up front.
  * </p>
  */
 public class SolverRegistry {
-    /** Map that stores the solver for each day. */
-    private static final Map<Integer, Solver> solvers = new HashMap<>();
 
-    // Static initializer to populate the solvers map
+    /**
+     * Identifies a created solver by its day and implementation.
+     *
+     * @param day  the day number
+     * @param name name of the implementation
+     */
+    private record Key(int day, String name) {}
+
+    /** Implementations of each day, reference first. */
+    private static final Map<Integer, List<SolverVariant>> variants = new HashMap<>();
+
+    /** Name of the default implementation of each day. */
+    private static final Map<Integer, String> defaults = new HashMap<>();
+
+    /** Name of the implementation currently selected for each day. */
+    private static final Map<Integer, String> selected = new ConcurrentHashMap<>();
+
+    /** Solvers created so far, by day and implementation. */
+    private static final Map<Key, Solver> solvers = new ConcurrentHashMap<>();
+
+    // Static initializer to populate the implementations of every day
     static {
-        solvers.put(1, new SecretEntrance());
-        solvers.put(2, new GiftShop());
-        solvers.put(3, new Lobby());
-        solvers.put(4, new PrintingDepartment());
-        solvers.put(5, new Cafeteria());
-        solvers.put(6, new TrashCompactor());
-        solvers.put(7, new Laboratories());
-        solvers.put(8, new Playground());
-        solvers.put(9, new MovieTheater());
-        solvers.put(10, new Factory());
-        solvers.put(11, new Reactor());
-        solvers.put(12, new TreeFarm());
+        register(1, "parallel",
+                SolverVariant.reference(() -> SolverVariant.inMemory(new SecretEntrance(false))),
+                new SolverVariant("parallel", "composes per-chunk dial segments",
+                        () -> SolverVariant.inMemory(new SecretEntrance())),
+                SolverVariant.streaming(() -> new SecretEntrance(false)));
+        register(2, SolverVariant.REFERENCE, SolverVariant.reference(() -> new GiftShop()));
+        register(3, "parallel",
+                SolverVariant.reference(() -> SolverVariant.inMemory(new Lobby(false))),
+                new SolverVariant("parallel", "sums chunks of lines in parallel",
+                        () -> SolverVariant.inMemory(new Lobby())),
+                SolverVariant.streaming(() -> new Lobby(false)));
+        register(4, SolverVariant.REFERENCE, SolverVariant.reference(() -> new PrintingDepartment()));
+        register(5, SolverVariant.REFERENCE, SolverVariant.reference(() -> new Cafeteria()));
+        register(6, SolverVariant.REFERENCE, SolverVariant.reference(() -> new TrashCompactor()));
+        register(7, SolverVariant.REFERENCE, SolverVariant.reference(() -> new Laboratories()));
+        register(8, SolverVariant.REFERENCE,
+                SolverVariant.reference(() -> new Playground(false)),
+                new SolverVariant("low-footprint", "bounded heap and Prim instead of sorting all pairs",
+                        () -> new Playground(true)));
+        register(9, SolverVariant.REFERENCE, SolverVariant.reference(() -> new MovieTheater()));
+        register(10, "parallel",
+                SolverVariant.reference(() -> SolverVariant.inMemory(new Factory(false))),
+                new SolverVariant("parallel", "solves chunks of machines in parallel",
+                        () -> SolverVariant.inMemory(new Factory())),
+                SolverVariant.streaming(() -> new Factory(false)));
+        register(11, SolverVariant.REFERENCE, SolverVariant.reference(() -> new Reactor()));
+        register(12, SolverVariant.REFERENCE, SolverVariant.reference(() -> new TreeFarm()));
+    }
+
+    /**
+     * Registers the implementations of a day and selects its default one.
+     *
+     * @param day         the day number
+     * @param defaultName name of the default implementation
+     * @param list        the implementations, the reference first
+     */
+    private static void register(int day, String defaultName, SolverVariant... list) {
+        variants.put(day, List.of(list));
+        defaults.put(day, defaultName);
+        selected.put(day, defaultName);
     }
 
     /**
-     * Retrieves the solver associated with the specified day.
+     * Retrieves the selected solver of the specified day, creating it on first use.
+     * <p>
+     * Every call for the same day and selection returns the same instance, even when
+     * called concurrently.
+     * </p>
      *
      * @param day the day number for which to retrieve the solver
      * @return the {@link Solver} for the given day, or {@code null} if no solver exists for that day
      */
     public static Solver get(int day) {
-        return solvers.get(day);
+        String name = selected.get(day);
+        return (name == null) ? null : get(day, name);
+    }
+
+    /**
+     * Retrieves a named implementation of the specified day, creating it on first use.
+     *
+     * @param day  the day number
+     * @param name name of the implementation, e.g. "reference"
+     * @return the {@link Solver}, or {@code null} if the day has no implementation of that name
+     */
+    public static Solver get(int day, String name) {
+        SolverVariant variant = variant(day, name);
+        if (variant == null) return null;
+        return solvers.computeIfAbsent(new Key(day, name), k -> variant.create());
+    }
+
+    /**
+     * Tells whether a solver is registered for the specified day, without creating it.
+     *
+     * @param day the day number to look up
+     * @return {@code true} if {@link #get(int)} returns a solver for that day
+     */
+    public static boolean contains(int day) {
+        return variants.containsKey(day);
+    }
+
+    /**
+     * Lists the implementations of the specified day.
+     * <p>
+     * Each call to {@link SolverVariant#create()} returns a new solver, independent of the
+     * ones returned by {@link #get(int, String)}.
+     * </p>
+     *
+     * @param day the day number
+     * @return the variants of the day, the reference first, or an empty list if no solver exists for that day
+     */
+    public static List<SolverVariant> variants(int day) {
+        return variants.getOrDefault(day, List.of());
+    }
+
+    /**
+     * Selects the implementation returned by {@link #get(int)} for the specified day.
+     *
+     * @param day  the day number
+     * @param name name of the implementation
+     * @throws IllegalArgumentException if the day has no implementation of that name
+     */
+    public static void select(int day, String name) {
+        if (variant(day, name) == null) {
+            throw new IllegalArgumentException("Day " + day + " has no implementation named " + name
+                    + ", available: " + String.join(", ", names(day)));
+        }
+        selected.put(day, name);
+    }
+
+    /**
+     * Returns the name of the implementation selected for the specified day.
+     *
+     * @param day the day number
+     * @return the selected name, or {@code null} if no solver exists for that day
+     */
+    public static String selected(int day) {
+        return selected.get(day);
+    }
+
+    /**
+     * Returns the name of the default implementation of the specified day.
+     *
+     * @param day the day number
+     * @return the default name, or {@code null} if no solver exists for that day
+     */
+    public static String defaultName(int day) {
+        return defaults.get(day);
+    }
+
+    /**
+     * Lists the names of the implementations of the specified day.
+     *
+     * @param day the day number
+     * @return the names, the reference first
+     */
+    public static List<String> names(int day) {
+        return variants(day).stream().map(SolverVariant::name).toList();
+    }
+
+    /**
+     * Returns the suffix distinguishing the logged timings of a non-default implementation.
+     * <p>
+     * Timings of the default implementation are logged under the plain problem identifier,
+     * e.g. "Day1", and those of another implementation under the identifier followed by this
+     * suffix, e.g. "Day1:reference", so their baselines never mix.
+     * </p>
+     *
+     * @param day the day number
+     * @return an empty string for the default implementation, otherwise ":" and its name
+     */
+    public static String suffix(int day) {
+        String name = selected.get(day);
+        return (name == null || name.equals(defaults.get(day))) ? "" : ":" + name;
+    }
+
+    /**
+     * Returns the name of the implementation a solver was created as.
+     *
+     * @param solver a solver returned by {@link #get(int)} or {@link #get(int, String)}
+     * @return the name of its implementation, or {@code null} if the solver was not created by this registry
+     */
+    public static String nameOf(Solver solver) {
+        for (Map.Entry<Key, Solver> entry : solvers.entrySet()) {
+            if (entry.getValue() == solver) return entry.getKey().name();
+        }
+        return null;
+    }
+
+    /**
+     * Looks up a named implementation of a day.
+     *
+     * @param day  the day number
+     * @param name name of the implementation
+     * @return the implementation, or {@code null} if the day has none of that name
+     */
+    private static SolverVariant variant(int day, String name) {
+        for (SolverVariant variant : variants(day)) {
+            if (variant.name().equals(name)) return variant;
+        }
+        return null;
     }
 }
@@ -0,0 +1,427 @@
+package core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Executes solvers on behalf of the user interfaces.
+ * <p>
+ * For solvers implementing {@link PreparedSolver}, the prepared model is cached
+ * per solver and input content, so solving the second part of a problem reuses the
+ * model built for the first one. Concurrent requests for the same model wait for a
+ * single preparation instead of parsing the input twice. Plain {@link Solver}s are
+ * invoked directly.
+ * </p>
+ * <p>
+ * When solving straight from a file, {@link StreamingSolver}s are fed the lines as they
+ * are read, so the file is never held in memory; other solvers get the whole file.
+ * </p>
+ * <p>
+ * Every run emits a {@link SolveEvent} and every preparation a {@link PhaseEvent},
+ * which show up in Java Flight Recorder recordings.
+ * </p>
+ * <p>
+ * Runs can be given a {@link SolveContext} enforcing a time budget and collecting the
+ * progress reported by the solver.
+ * </p>
+ * <p>
+ * Several parts of the same input can be {@linkplain #solveParts solved concurrently},
+ * one thread per part, over a single unmodifiable copy of the input and a single
+ * prepared model. Solvers must therefore never modify their input or prepared model.
+ * </p>
+ * <p>
+ * In {@link LowFootprint} mode, the cache holds a single prepared model, so a run over
+ * many inputs never retains more than one model at a time.
+ * </p>
+ */
+public class SolverRunner {
+
+    /** Maximum number of prepared models kept in memory. */
+    private static final int MAX_CACHED_MODELS = 16;
+
+    /**
+     * Prepared models indexed by solver and input, evicted in least-recently-used order.
+     * In {@link LowFootprint} mode only the most recent model is kept.
+     */
+    private static final Map<CacheKey, FutureTask<Object>> prepared =
+            new LinkedHashMap<>(MAX_CACHED_MODELS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, FutureTask<Object>> eldest) {
+                    return size() > (LowFootprint.isEnabled() ? 1 : MAX_CACHED_MODELS);
+                }
+            };
+
+    /**
+     * Result of one part solved by {@link #solveParts}.
+     *
+     * @param part   the solved part
+     * @param result the result of the part
+     * @param nanos  time spent solving the part on its own thread, in nanoseconds
+     */
+    public record PartResult(Part part, long result, long nanos) {}
+
+    /**
+     * Result of a part solved by {@link #solveFileDigested}, with the digest of the lines solved.
+     *
+     * @param result the result of the part
+     * @param digest the {@link InputDigest} of the lines the solver was given
+     */
+    public record FileResult(long result, String digest) {}
+
+    /**
+     * Identifies a prepared model by the solver that built it and the input it came from.
+     * <p>
+     * Solvers are compared by identity rather than class: implementations of a day may
+     * share a class and still build different models, such as the full and the memory-lean
+     * models of Day 08.
+     * </p>
+     *
+     * @param solver the solver instance
+     * @param digest content digest of the input
+     */
+    private record CacheKey(Solver solver, String digest) {}
+
+    /**
+     * Solves the requested part of a problem.
+     *
+     * @param solver the solver to run
+     * @param input  the input lines
+     * @param part   the part to solve
+     * @return the result of the problem as a {@code long}
+     */
+    public static long solve(Solver solver, List<String> input, Part part) {
+        SolveEvent event = new SolveEvent();
+        event.begin();
+
+        long result;
+        if (solver instanceof PreparedSolver<?> preparedSolver) {
+            result = solvePrepared(preparedSolver, input, part);
+        } else {
+            result = (part == Part.SILVER)
+                    ? solver.solveSilver(input)
+                    : solver.solveGold(input);
+        }
+
+        commit(event, solver, part, result);
+        return result;
+    }
+
+    /**
+     * Solves the requested part of a problem under a {@link SolveContext}.
+     * <p>
+     * The context is installed on the current thread for the duration of the solve, so
+     * solvers polling it stop with a {@link SolveCancelledException} once it is cancelled
+     * or its budget expires, and the progress they report reaches its listener.
+     * </p>
+     *
+     * @param solver  the solver to run
+     * @param input   the input lines
+     * @param part    the part to solve
+     * @param context the cancellation, deadline and progress context of the solve
+     * @return the result of the problem as a {@code long}
+     * @throws SolveCancelledException if the solve was cancelled or ran out of time
+     */
+    public static long solve(Solver solver, List<String> input, Part part, SolveContext context) {
+        return context.call(() -> solve(solver, input, part));
+    }
+
+    /**
+     * Solves the requested part of a problem from its input file under a {@link SolveContext}.
+     *
+     * @param solver   the solver to run
+     * @param filePath the path to the input file
+     * @param part     the part to solve
+     * @param context  the cancellation, deadline and progress context of the solve
+     * @return the result of the problem as a {@code long}
+     * @throws SolveCancelledException if the solve was cancelled or ran out of time
+     * @see #solveFile(Solver, String, Part)
+     */
+    public static long solveFile(Solver solver, String filePath, Part part, SolveContext context) {
+        return context.call(() -> solveFile(solver, filePath, part));
+    }
+
+    /**
+     * Solves the requested part from its input file under a {@link SolveContext}, and hashes
+     * the lines solved.
+     *
+     * @param solver   the solver to run
+     * @param filePath the path to the input file
+     * @param part     the part to solve
+     * @param context  the cancellation, deadline and progress context of the solve
+     * @return the result of the problem and the digest of the lines solved
+     * @throws SolveCancelledException if the solve was cancelled or ran out of time
+     * @see #solveFileDigested(Solver, String, Part)
+     */
+    public static FileResult solveFileDigested(Solver solver, String filePath, Part part, SolveContext context) {
+        return context.call(() -> solveFileDigested(solver, filePath, part));
+    }
+
+    /**
+     * Solves several parts of a problem one after the other on the current thread.
+     * <p>
+     * {@link PreparedSolver}s prepare their model once and keep it for every part, so the
+     * preparation is shared even when other threads evict it from the cache in between,
+     * as happens when many inputs are solved at once. Each part still emits its own
+     * {@link SolveEvent}, which excludes the preparation.
+     * </p>
+     *
+     * @param solver the solver to run
+     * @param input  the input lines
+     * @param parts  the parts to solve
+     * @return the result of every part, in the order of {@code parts}
+     */
+    public static long[] solveAll(Solver solver, List<String> input, List<Part> parts) {
+        if (solver instanceof PreparedSolver<?> preparedSolver) {
+            return solveAllPrepared(preparedSolver, input, parts);
+        }
+        long[] results = new long[parts.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = solve(solver, input, parts.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * Solves several parts of a problem with a single cached or freshly prepared model.
+     *
+     * @param solver the solver to run
+     * @param input  the input lines
+     * @param parts  the parts to solve
+     * @param <T>    type of the prepared model
+     * @return the result of every part, in the order of {@code parts}
+     */
+    private static <T> long[] solveAllPrepared(PreparedSolver<T> solver, List<String> input, List<Part> parts) {
+        T model = prepare(solver, input);
+        long[] results = new long[parts.size()];
+        for (int i = 0; i < results.length; i++) {
+            Part part = parts.get(i);
+            SolveEvent event = new SolveEvent();
+            event.begin();
+            results[i] = (part == Part.SILVER)
+                    ? solver.solveSilverPrepared(model)
+                    : solver.solveGoldPrepared(model);
+            commit(event, solver, part, results[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Solves several parts of a problem concurrently, each on its own thread.
+     * <p>
+     * Every part gets the same unmodifiable copy of the input, and {@link PreparedSolver}s
+     * prepare their model once for all parts: the first part to ask prepares it while the
+     * others wait. Each part is timed separately, from the moment its thread starts, so
+     * the time of a part includes the preparation it waited for, and the wall time of the
+     * whole call is that of the slowest part rather than the sum. If a part fails, the
+     * context is cancelled, so the other parts stop at their next check, and the first
+     * failure is rethrown.
+     * </p>
+     *
+     * @param solver  the solver to run
+     * @param input   the input lines, copied once
+     * @param parts   the parts to solve
+     * @param context the cancellation, deadline and progress context, shared by all parts
+     * @return the result and time of every part, in the order of {@code parts}
+     * @throws SolveCancelledException if the solve was cancelled or ran out of time
+     */
+    public static List<PartResult> solveParts(Solver solver, List<String> input, List<Part> parts, SolveContext context) {
+        List<String> shared = List.copyOf(input);
+        List<FutureTask<PartResult>> tasks = new ArrayList<>();
+        for (Part part : parts) {
+            FutureTask<PartResult> task = new FutureTask<>(() -> context.call(() -> {
+                long start = System.nanoTime();
+                long result = solve(solver, shared, part);
+                return new PartResult(part, result, System.nanoTime() - start);
+            }));
+            tasks.add(task);
+            new Thread(task, SolverVariant.unwrap(solver).getClass().getSimpleName() + "-" + part.label()).start();
+        }
+
+        List<PartResult> results = new ArrayList<>();
+        RuntimeException failure = null;
+        for (FutureTask<PartResult> task : tasks) {
+            try {
+                results.add(task.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                context.cancel();
+                throw new RuntimeException("Interrupted while solving", e);
+            } catch (ExecutionException e) {
+                context.cancel();
+                if (e.getCause() instanceof Error err) throw err;
+                if (failure == null) {
+                    failure = (e.getCause() instanceof RuntimeException re)
+                            ? re
+                            : new RuntimeException("Error solving", e.getCause());
+                }
+            }
+        }
+        if (failure != null) throw failure;
+        return results;
+    }
+
+    /**
+     * Solves the requested part of a problem directly from its input file.
+     * <p>
+     * {@link StreamingSolver}s read the file line by line in constant memory, and
+     * their time therefore includes reading it. Other solvers get every line read
+     * up front through {@link InputReader#readLines(String)}.
+     * </p>
+     *
+     * @param solver   the solver to run
+     * @param filePath the path to the input file
+     * @param part     the part to solve
+     * @return the result of the problem as a {@code long}
+     * @throws RuntimeException if an I/O error occurs while reading the file
+     */
+    public static long solveFile(Solver solver, String filePath, Part part) {
+        if (!(solver instanceof StreamingSolver streamingSolver)) {
+            return solve(solver, InputReader.readLines(filePath), part);
+        }
+        return stream(streamingSolver, filePath, part, false).result();
+    }
+
+    /**
+     * Solves the requested part directly from its input file, and hashes the lines solved.
+     * <p>
+     * The digest is computed from the same read of the file as the result, so a file
+     * changing while it is solved can never have its result stored under the digest of
+     * another version, as when hashing the file and solving it in two reads.
+     * </p>
+     *
+     * @param solver   the solver to run
+     * @param filePath the path to the input file
+     * @param part     the part to solve
+     * @return the result of the problem and the digest of the lines solved
+     * @throws RuntimeException if an I/O error occurs while reading the file
+     * @see #solveFile(Solver, String, Part)
+     */
+    public static FileResult solveFileDigested(Solver solver, String filePath, Part part) {
+        if (!(solver instanceof StreamingSolver streamingSolver)) {
+            List<String> lines = InputReader.readLines(filePath);
+            return new FileResult(solve(solver, lines, part), InputDigest.of(lines));
+        }
+        return stream(streamingSolver, filePath, part, true);
+    }
+
+    /**
+     * Feeds the lines of a file to a streaming solver as they are read.
+     *
+     * @param solver   the streaming solver
+     * @param filePath the path to the input file
+     * @param part     the part to solve
+     * @param digested whether the lines are hashed as they are read
+     * @return the result, with the digest of the lines or {@code null} if not {@code digested}
+     * @throws RuntimeException if an I/O error occurs while reading the file
+     */
+    private static FileResult stream(StreamingSolver solver, String filePath, Part part, boolean digested) {
+        SolveEvent event = new SolveEvent();
+        event.begin();
+
+        long result;
+        String digest = null;
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(filePath))) {
+            Iterator<String> lines = reader.lines().iterator();
+            InputDigest.Digesting digesting = digested ? new InputDigest.Digesting(lines) : null;
+            if (digesting != null) lines = digesting;
+            result = (part == Part.SILVER)
+                    ? solver.solveSilverStreaming(lines)
+                    : solver.solveGoldStreaming(lines);
+            if (digesting != null) digest = digesting.digest();
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Error reading file: " + filePath, e);
+        }
+
+        commit(event, solver, part, result);
+        return new FileResult(result, digest);
+    }
+
+    /**
+     * Commits a {@link SolveEvent} if it is enabled and above its threshold.
+     *
+     * @param event  the event started before solving
+     * @param solver the solver that ran
+     * @param part   the solved part
+     * @param result the result of the run
+     */
+    private static void commit(SolveEvent event, Solver solver, Part part, long result) {
+        if (event.shouldCommit()) {
+            event.solver = SolverVariant.unwrap(solver).getClass().getSimpleName();
+            event.part = part.label();
+            event.result = result;
+            event.commit();
+        }
+    }
+
+    /**
+     * Solves the requested part with a cached or freshly prepared model.
+     *
+     * @param solver the solver to run
+     * @param input  the input lines
+     * @param part   the part to solve
+     * @param <T>    type of the prepared model
+     * @return the result of the problem as a {@code long}
+     */
+    private static <T> long solvePrepared(PreparedSolver<T> solver, List<String> input, Part part) {
+        T model = prepare(solver, input);
+        return (part == Part.SILVER)
+                ? solver.solveSilverPrepared(model)
+                : solver.solveGoldPrepared(model);
+    }
+
+    /**
+     * Returns the prepared model for the given solver and input, preparing it on a cache miss.
+     *
+     * @param solver the solver whose model is requested
+     * @param input  the input lines
+     * @param <T>    type of the prepared model
+     * @return the prepared model
+     */
+    @SuppressWarnings({"unchecked", "try"})
+    public static <T> T prepare(PreparedSolver<T> solver, List<String> input) {
+        CacheKey key = new CacheKey(solver, InputDigest.of(input));
+        FutureTask<Object> task;
+        synchronized (prepared) {
+            task = prepared.computeIfAbsent(key, k -> new FutureTask<>(() -> {
+                String phase = SolverVariant.unwrap(solver).getClass().getSimpleName() + ".prepare";
+                try (Phase ignored = Phase.start(phase)) {
+                    return solver.prepare(input);
+                }
+            }));
+        }
+
+        task.run();
+        try {
+            return (T) task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while preparing input", e);
+        } catch (ExecutionException e) {
+            synchronized (prepared) {
+                prepared.remove(key, task);
+            }
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new RuntimeException("Error preparing input", e.getCause());
+        }
+    }
+
+    /**
+     * Discards every cached prepared model.
+     */
+    public static void clearCache() {
+        synchronized (prepared) {
+            prepared.clear();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package core;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Named implementation of a day, registered next to the other implementations of that
+ * day in {@link SolverRegistry#variants(int)}.
+ * <p>
+ * Every day has a {@value #REFERENCE} variant: its straightforward code path, single-threaded
+ * and without the optional fast paths. The other variants take those fast paths, such as
+ * parallel chunks, streaming or memory-lean strategies, and must return the same results
+ * as the reference on every valid input, which the {@code verify} command checks on
+ * randomized inputs.
+ * </p>
+ * <p>
+ * The factory is a lambda so that listing the variants of a day loads none of its classes.
+ * Variants built on another solver, such as {@link #streaming(Supplier)}, wrap it;
+ * {@link #unwrap(Solver)} returns the solver whose code actually runs.
+ * </p>
+ * <p>
+ * Runners stream input files through any {@link StreamingSolver} they are given, so a
+ * variant's interfaces decide its execution path: streaming variants implement it, and
+ * variants meant to work on the whole input in memory, such as parallel ones, are wrapped
+ * by {@link #inMemory(Solver)} to hide it.
+ * </p>
+ *
+ * @param name        short name of the variant, unique within its day, e.g. "parallel"
+ * @param description one-line description of what the variant does differently
+ * @param factory     creates the solver of the variant
+ */
+public record SolverVariant(String name, String description, Supplier<Solver> factory) {
+
+    /** Name of the variant every other variant of a day is checked against. */
+    public static final String REFERENCE = "reference";
+
+    /**
+     * Solver delegating to another solver.
+     */
+    private interface Wrapper {
+        /**
+         * Returns the wrapped solver.
+         *
+         * @return the solver doing the work
+         */
+        Solver delegate();
+    }
+
+    /**
+     * Creates the reference variant of a day.
+     *
+     * @param factory creates the solver restricted to its straightforward code path
+     * @return the reference variant
+     */
+    public static SolverVariant reference(Supplier<Solver> factory) {
+        return new SolverVariant(REFERENCE, "sequential, in-memory, without fast paths", factory);
+    }
+
+    /**
+     * Creates a variant solving through the streaming methods of a solver.
+     *
+     * @param factory creates the streaming solver
+     * @return the variant reading its input through an iterator, one line at a time
+     */
+    public static SolverVariant streaming(Supplier<? extends StreamingSolver> factory) {
+        return new SolverVariant("streaming", "reads the input one line at a time",
+                () -> new Streaming(factory.get()));
+    }
+
+    /**
+     * Hides the streaming methods of a solver, so that runners hand it the whole input.
+     * <p>
+     * The wrapper keeps the {@link PreparedSolver} methods, so its prepared model is still
+     * cached and shared between parts.
+     * </p>
+     *
+     * @param solver the solver
+     * @return a solver with the same in-memory methods, which never streams
+     */
+    public static Solver inMemory(Solver solver) {
+        return (solver instanceof PreparedSolver<?> prepared) ? inMemoryPrepared(prepared) : new InMemory(solver);
+    }
+
+    /**
+     * Hides the streaming methods of a prepared solver.
+     *
+     * @param solver the prepared solver
+     * @param <T>    type of the model
+     * @return the wrapping prepared solver
+     */
+    private static <T> Solver inMemoryPrepared(PreparedSolver<T> solver) {
+        return new InMemoryPrepared<>(solver);
+    }
+
+    /**
+     * Returns the solver whose code runs when a solver of a variant is called.
+     *
+     * @param solver a solver, possibly wrapping another one
+     * @return the wrapped solver, or {@code solver} itself if it wraps none
+     */
+    public static Solver unwrap(Solver solver) {
+        while (solver instanceof Wrapper wrapper) solver = wrapper.delegate();
+        return solver;
+    }
+
+    /**
+     * Creates the solver of the variant.
+     *
+     * @return a new solver
+     */
+    public Solver create() {
+        return factory.get();
+    }
+
+    /**
+     * Solver always going through the streaming methods of another solver, even for an
+     * input already held in memory.
+     *
+     * @param solver the streaming solver
+     */
+    private record Streaming(StreamingSolver solver) implements StreamingSolver, Wrapper {
+        @Override
+        public Solver delegate() {
+            return solver;
+        }
+
+        @Override
+        public long solveSilverStreaming(Iterator<String> lines) {
+            return solver.solveSilverStreaming(lines);
+        }
+
+        @Override
+        public long solveGoldStreaming(Iterator<String> lines) {
+            return solver.solveGoldStreaming(lines);
+        }
+
+        @Override
+        public long solveSilver(List<String> input) {
+            return solver.solveSilverStreaming(input.iterator());
+        }
+
+        @Override
+        public long solveGold(List<String> input) {
+            return solver.solveGoldStreaming(input.iterator());
+        }
+    }
+
+    /**
+     * Solver exposing only the in-memory methods of another solver.
+     *
+     * @param solver the wrapped solver
+     */
+    private record InMemory(Solver solver) implements Solver, Wrapper {
+        @Override
+        public Solver delegate() {
+            return solver;
+        }
+
+        @Override
+        public long solveSilver(List<String> input) {
+            return solver.solveSilver(input);
+        }
+
+        @Override
+        public long solveGold(List<String> input) {
+            return solver.solveGold(input);
+        }
+    }
+
+    /**
+     * Prepared solver exposing only the in-memory methods of another prepared solver.
+     *
+     * @param solver the wrapped prepared solver
+     * @param <T>    type of the model
+     */
+    private record InMemoryPrepared<T>(PreparedSolver<T> solver) implements PreparedSolver<T>, Wrapper {
+        @Override
+        public Solver delegate() {
+            return solver;
+        }
+
+        @Override
+        public T prepare(List<String> input) {
+            return solver.prepare(input);
+        }
+
+        @Override
+        public long solveSilverPrepared(T model) {
+            return solver.solveSilverPrepared(model);
+        }
+
+        @Override
+        public long solveGoldPrepared(T model) {
+            return solver.solveGoldPrepared(model);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Computes version stamps that change whenever a solver's code changes.
+ * <p>
+ * The stamp of a solver is the SHA-256 digest of the bytecode of every class in the
+ * solver's package (the solver itself and its helpers, such as parsed-input models),
+ * followed by that of the shared {@code core} and {@code core.collections} packages the
+ * solvers build on, such as {@link Cursor}, {@link Grid} and {@link ParallelReduce}. The
+ * classes are read from the directory or jar they were loaded from. Recompiling a day,
+ * or the shared code it runs, with any code change therefore produces a new stamp,
+ * without anyone having to bump a version number by hand. Stamps are computed once per
+ * class and then memoized.
+ * </p>
+ */
+public class SolverVersion {
+
+    /** Packages of the code shared by every solver, with '/' separators, hashed into every stamp. */
+    private static final List<String> SHARED_PACKAGES = List.of(
+            SolverVersion.class.getPackageName().replace('.', '/'),
+            SolverVersion.class.getPackageName().replace('.', '/') + "/collections");
+
+    /** Memoized stamps indexed by solver class. */
+    private static final Map<Class<?>, String> stamps = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the version stamp of a solver.
+     * <p>
+     * The stamp of a solver wrapping another one, see {@link SolverVariant#unwrap(Solver)},
+     * is that of the wrapped solver.
+     * </p>
+     *
+     * @param solver the solver
+     * @return the version stamp as a lowercase hexadecimal string
+     */
+    public static String of(Solver solver) {
+        return stamps.computeIfAbsent(SolverVariant.unwrap(solver).getClass(), SolverVersion::compute);
+    }
+
+    /**
+     * Hashes the bytecode of every class in the package of the given class, then in the
+     * shared packages.
+     * <p>
+     * Falls back to hashing only the class itself when its code source cannot be listed.
+     * </p>
+     *
+     * @param type the solver class
+     * @return the version stamp
+     */
+    private static String compute(Class<?> type) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        String packagePath = type.getPackageName().replace('.', '/');
+        try {
+            List<String> entries = listPackage(type, packagePath);
+            if (entries.isEmpty()) {
+                entries = List.of(type.getName().replace('.', '/') + ".class");
+            }
+            update(digest, type.getClassLoader(), entries);
+            for (String shared : SHARED_PACKAGES) {
+                if (shared.equals(packagePath)) continue;
+                update(digest, SolverVersion.class.getClassLoader(), listPackage(SolverVersion.class, shared));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading bytecode of " + type.getName(), e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Feeds the names and bytecode of classes to a digest.
+     *
+     * @param digest  the digest to update
+     * @param loader  the class loader the classes are read through
+     * @param entries the resource names of the classes
+     * @throws IOException if a class cannot be read
+     */
+    private static void update(MessageDigest digest, ClassLoader loader, List<String> entries) throws IOException {
+        for (String entry : entries) {
+            digest.update(entry.getBytes());
+            try (InputStream in = loader.getResourceAsStream(entry)) {
+                if (in != null) digest.update(in.readAllBytes());
+            }
+        }
+    }
+
+    /**
+     * Lists the class files of a package in the directory or jar a class was loaded from.
+     *
+     * @param type        a class of the package
+     * @param packagePath the package name with '/' separators
+     * @return the sorted resource names of the classes, or an empty list if they cannot be listed
+     * @throws IOException if the code source cannot be read
+     */
+    private static List<String> listPackage(Class<?> type, String packagePath) throws IOException {
+        List<String> entries = new ArrayList<>();
+        CodeSource source = type.getProtectionDomain().getCodeSource();
+        if (source == null) return entries;
+
+        Path location;
+        try {
+            URL url = source.getLocation();
+            location = Path.of(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return entries;
+        }
+
+        if (Files.isDirectory(location)) {
+            Path dir = location.resolve(packagePath);
+            if (!Files.isDirectory(dir)) return entries;
+            try (Stream<Path> files = Files.list(dir)) {
+                files.map(p -> p.getFileName().toString())
+                        .filter(name -> name.endsWith(".class"))
+                        .forEach(name -> entries.add(packagePath + "/" + name));
+            }
+        } else if (Files.isRegularFile(location)) {
+            try (JarFile jar = new JarFile(location.toFile())) {
+                jar.stream()
+                        .map(JarEntry::getName)
+                        .filter(name -> name.startsWith(packagePath + "/") && name.endsWith(".class")
+                                && name.indexOf('/', packagePath.length() + 1) < 0)
+                        .forEach(entries::add);
+            }
+        }
+        entries.sort(null);
+        return entries;
+    }
+}
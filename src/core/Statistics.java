@@ -0,0 +1,48 @@
+package core;
+
+import java.util.Arrays;
+
+/**
+ * Summary statistics of a series of execution times.
+ *
+ * @param count  number of samples
+ * @param min    fastest sample, in nanoseconds
+ * @param median median sample, in nanoseconds
+ * @param mean   arithmetic mean, in nanoseconds
+ * @param stddev population standard deviation, in nanoseconds
+ */
+public record Statistics(int count, long min, long median, double mean, double stddev) {
+
+    /**
+     * Computes the statistics of the given samples.
+     * <p>
+     * For an even number of samples the median is the mean of the two middle values.
+     * </p>
+     *
+     * @param samples execution times in nanoseconds; the array is not modified
+     * @return the summary statistics
+     * @throws IllegalArgumentException if {@code samples} is empty
+     */
+    public static Statistics of(long[] samples) {
+        if (samples.length == 0) {
+            throw new IllegalArgumentException("At least one sample is required");
+        }
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+
+        long median = (n % 2 == 1)
+                ? sorted[n / 2]
+                : (sorted[n / 2 - 1] + sorted[n / 2]) / 2;
+
+        double sum = 0;
+        for (long s : sorted) sum += s;
+        double mean = sum / n;
+
+        double squares = 0;
+        for (long s : sorted) squares += (s - mean) * (s - mean);
+        double stddev = Math.sqrt(squares / n);
+
+        return new Statistics(n, sorted[0], median, mean, stddev);
+    }
+}
@@ -0,0 +1,35 @@
+package core;
+
+import java.util.Iterator;
+
+/**
+ * Extension of {@link Solver} for problems whose lines can be processed one at a time.
+ * <p>
+ * A streaming solver consumes its input from an {@link Iterator} and keeps only a
+ * bounded amount of state per line, so an input of any size can be solved while it
+ * is read, without ever holding the whole file in memory. Each line is seen exactly
+ * once, in file order.
+ * </p>
+ * <p>
+ * {@link SolverRunner#solveFile(Solver, String, Part)} picks the streaming methods
+ * automatically for solvers implementing this interface. The {@link Solver} methods
+ * remain available for inputs already held in memory and must return the same results.
+ * </p>
+ */
+public interface StreamingSolver extends Solver {
+    /**
+     * Solves the "Silver" variant of the problem while reading the input.
+     *
+     * @param lines iterator over the input lines, consumed by this call
+     * @return the result of the "Silver" problem as a {@code long}
+     */
+    long solveSilverStreaming(Iterator<String> lines);
+
+    /**
+     * Solves the "Gold" variant of the problem while reading the input.
+     *
+     * @param lines iterator over the input lines, consumed by this call
+     * @return the result of the "Gold" problem as a {@code long}
+     */
+    long solveGoldStreaming(Iterator<String> lines);
+}
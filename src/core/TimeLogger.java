@@ -1,9 +1,19 @@
 package core;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Utility class for logging execution times of problems to a file.
@@ -11,21 +21,74 @@ import java.time.format.DateTimeFormatter;
  * This class writes timing information to a log file located at "logs/executionTime.log".
  * Each log entry includes the problem identifier, mode, formatted execution time, and timestamp.
  * </p>
+ * <p>
+ * Logging is asynchronous: {@link #log(String, String, long)} only records the latency
+ * in an in-memory {@link LatencyHistogram} and enqueues the entry on a bounded queue.
+ * A background writer thread drains the queue in batches, formats the entries and
+ * appends them to the log file, which is opened once and flushed after every batch.
+ * Steady-state measurements are logged as a single MEASURE record.
+ * When the JVM exits, the remaining entries are written, and a summary record with
+ * p50/p90/p99/max per problem and mode is appended to the log. The summary is printed
+ * to standard output as well only if {@link #setPrintSummary(boolean)} asked for it, as
+ * the interactive UI does, so that it never pollutes the output of headless commands.
+ * </p>
  */
 public class TimeLogger {
 
     /** Path to the log file. */
-    private static final Path LOG_PATH = Paths.get("logs", "executionTime.log");
+    static final Path LOG_PATH = Paths.get("logs", "executionTime.log");
 
     /** Date-time formatter used for timestamps in the log. */
     private static final DateTimeFormatter DT_FORMAT =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    /** Maximum number of entries waiting to be written. */
+    private static final int QUEUE_CAPACITY = 4096;
+
+    /**
+     * A pending log entry.
+     *
+     * @param problemId   identifier of the problem
+     * @param mode        mode in which the problem was executed
+     * @param nanos       execution time in nanoseconds
+     * @param epochMillis time at which the entry was logged
+     * @param details     preformatted body replacing the execution time, or {@code null}
+     * @param usage       resources used by the run, or {@code null} if not captured
+     */
+    private record Entry(String problemId, String mode, long nanos, long epochMillis,
+                         String details, ResourceUsage usage) {}
+
+    /** Sentinel entry telling the writer thread to stop. */
+    private static final Entry POISON = new Entry("", "", 0, 0, null, null);
+
+    /** Entries waiting to be written by the background thread. */
+    private static final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    /** Latency histograms indexed by "problemId-mode". */
+    private static final Map<String, LatencyHistogram> histograms = new TreeMap<>();
+
+    /** Background thread writing queued entries to the log file. */
+    private static final Thread writer = new Thread(TimeLogger::writeLoop, "time-logger");
+
+    /** Whether the summary is printed to standard output on shutdown, besides being logged. */
+    private static volatile boolean printSummary = false;
+
+    /** Whether new entries are no longer accepted, after shutdown or a write failure. */
+    private static volatile boolean stopped = false;
+
+    static {
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(TimeLogger::shutdown, "time-logger-shutdown"));
+    }
+
     /**
      * Logs the execution time of a problem to the log file.
      * <p>
      * The log entry contains the problem ID, mode, execution time formatted in
      * seconds, milliseconds, microseconds, and nanoseconds, and the current timestamp.
+     * The entry is written asynchronously; this method only blocks if the writer has
+     * fallen {@value #QUEUE_CAPACITY} entries behind.
      * </p>
      *
      * @param problemId identifier of the problem
@@ -33,25 +96,185 @@ public class TimeLogger {
      * @param nanos     execution time in nanoseconds
      */
     public static void log(String problemId, String mode, long nanos) {
+        log(problemId, mode, nanos, null);
+    }
+
+    /**
+     * Logs the execution time of a problem together with the resources it used.
+     * <p>
+     * Same as {@link #log(String, String, long)}, with the allocated bytes, GC count,
+     * GC time and peak heap appended to the entry.
+     * </p>
+     *
+     * @param problemId identifier of the problem
+     * @param mode      mode in which the problem was executed (e.g., "Silver" or "Gold")
+     * @param nanos     execution time in nanoseconds
+     * @param usage     resources used by the run, or {@code null} if not captured
+     */
+    public static void log(String problemId, String mode, long nanos, ResourceUsage usage) {
+        histogram(problemId, mode).record(nanos);
+        if (stopped) return;
         try {
-            Files.createDirectories(LOG_PATH.getParent());
-            String line = formatLine(problemId, mode, nanos);
-            Files.writeString(LOG_PATH, line + System.lineSeparator(),
-                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-        } catch (IOException e) {
-            System.err.println("Error writing log: " + e.getMessage());
+            queue.put(new Entry(problemId, mode, nanos, System.currentTimeMillis(), null, usage));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
     /**
-     * Formats a single log line for a given problem and execution time.
+     * Logs the summary of a steady-state measurement to the log file.
+     * <p>
+     * A single MEASURE record is written with the number of warm-up and measured
+     * iterations, followed by the min, median, mean and standard deviation of the
+     * measured iterations. Individual iterations are not logged.
+     * </p>
+     *
+     * @param problemId   identifier of the problem
+     * @param mode        mode in which the problem was executed (e.g., "Silver" or "Gold")
+     * @param measurement the measurement to log
+     */
+    public static void logMeasurement(String problemId, String mode, Measurement measurement) {
+        if (stopped) return;
+        Statistics stats = measurement.statistics();
+        StringBuilder sb = new StringBuilder();
+        sb.append("MEASURE warmup=").append(measurement.warmup()).append(" n=").append(stats.count());
+        sb.append(", min=");
+        appendTime(sb, stats.min());
+        sb.append(", median=");
+        appendTime(sb, stats.median());
+        sb.append(", mean=");
+        appendTime(sb, Math.round(stats.mean()));
+        sb.append(", stddev=");
+        appendTime(sb, Math.round(stats.stddev()));
+        try {
+            queue.put(new Entry(problemId, mode, stats.median(), System.currentTimeMillis(), sb.toString(), null));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the latency histogram of a problem and mode, creating it if needed.
      *
      * @param problemId identifier of the problem
      * @param mode      mode in which the problem was executed
-     * @param nanos     execution time in nanoseconds
-     * @return a formatted string representing a single log entry
+     * @return the histogram of every latency logged for that problem and mode
+     */
+    public static LatencyHistogram histogram(String problemId, String mode) {
+        synchronized (histograms) {
+            return histograms.computeIfAbsent(problemId + "-" + mode, k -> new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Sets whether the latency summary is printed to standard output on shutdown.
+     *
+     * @param value {@code true} to print the summary, which is logged either way
      */
-    private static String formatLine(String problemId, String mode, long nanos) {
+    public static void setPrintSummary(boolean value) {
+        printSummary = value;
+    }
+
+    /**
+     * Writes every pending entry and appends the latency summary to the log, printing it
+     * if {@link #setPrintSummary(boolean)} asked for it.
+     * <p>
+     * Called automatically when the JVM exits. Calling it more than once has no effect,
+     * and entries logged afterwards are ignored.
+     * </p>
+     */
+    public static void shutdown() {
+        synchronized (TimeLogger.class) {
+            if (stopped && !writer.isAlive()) return;
+            stopped = true;
+        }
+        try {
+            if (writer.isAlive()) queue.put(POISON);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Body of the writer thread: drains the queue in batches until the sentinel arrives,
+     * then writes the summary.
+     */
+    private static void writeLoop() {
+        List<Entry> batch = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        try (BufferedWriter out = openLog()) {
+            boolean running = true;
+            while (running) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                for (Entry entry : batch) {
+                    if (entry == POISON) {
+                        running = false;
+                        break;
+                    }
+                    sb.setLength(0);
+                    appendLine(sb, entry);
+                    out.write(sb.toString());
+                    out.newLine();
+                }
+                batch.clear();
+                out.flush();
+            }
+
+            String summary = formatSummary();
+            if (!summary.isEmpty()) {
+                if (printSummary) System.out.print(summary);
+                out.write(summary);
+                out.flush();
+            }
+        } catch (IOException e) {
+            stopped = true;
+            queue.clear();
+            System.err.println("Error writing log: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Opens the log file for appending, creating its directory if needed.
+     *
+     * @return a writer appending to the log file
+     * @throws IOException if the file cannot be opened
+     */
+    private static BufferedWriter openLog() throws IOException {
+        Files.createDirectories(LOG_PATH.getParent());
+        return Files.newBufferedWriter(LOG_PATH, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Formats a single log line for a given entry.
+     *
+     * @param sb    builder receiving the line
+     * @param entry the entry to format
+     */
+    private static void appendLine(StringBuilder sb, Entry entry) {
+        sb.append(entry.problemId).append('-').append(entry.mode).append(", ");
+        if (entry.details != null) {
+            sb.append(entry.details);
+        } else {
+            appendTime(sb, entry.nanos);
+        }
+        if (entry.usage != null) {
+            sb.append(", ").append(entry.usage.describe());
+        }
+        sb.append(", ").append(timestamp(entry.epochMillis));
+    }
+
+    /**
+     * Appends an execution time formatted in seconds, milliseconds, microseconds and nanoseconds.
+     *
+     * @param sb    builder receiving the time
+     * @param nanos execution time in nanoseconds
+     */
+    private static void appendTime(StringBuilder sb, long nanos) {
         long seconds = nanos / 1_000_000_000;
         nanos %= 1_000_000_000;
 
@@ -61,11 +284,46 @@ public class TimeLogger {
         long us = nanos / 1_000;
         long ns = nanos % 1_000;
 
-        String execTime = String.format("%d s : %d ms : %d µs : %d ns",
-                seconds, ms, us, ns);
+        sb.append(seconds).append(" s : ")
+                .append(ms).append(" ms : ")
+                .append(us).append(" µs : ")
+                .append(ns).append(" ns");
+    }
 
-        String dateTime = LocalDateTime.now().format(DT_FORMAT);
+    /**
+     * Formats the summary records, one line per problem and mode.
+     *
+     * @return the summary, or an empty string if nothing was logged
+     */
+    private static String formatSummary() {
+        StringBuilder sb = new StringBuilder();
+        String now = timestamp(System.currentTimeMillis());
+        synchronized (histograms) {
+            for (Map.Entry<String, LatencyHistogram> e : histograms.entrySet()) {
+                LatencyHistogram h = e.getValue();
+                sb.append(e.getKey()).append(", SUMMARY n=").append(h.count());
+                sb.append(", p50=");
+                appendTime(sb, h.percentile(50));
+                sb.append(", p90=");
+                appendTime(sb, h.percentile(90));
+                sb.append(", p99=");
+                appendTime(sb, h.percentile(99));
+                sb.append(", max=");
+                appendTime(sb, h.max());
+                sb.append(", ").append(now).append(System.lineSeparator());
+            }
+        }
+        return sb.toString();
+    }
 
-        return String.format("%s-%s, %s, %s", problemId, mode, execTime, dateTime);
+    /**
+     * Formats an epoch timestamp in the local time zone.
+     *
+     * @param epochMillis milliseconds since the epoch
+     * @return the formatted date and time
+     */
+    private static String timestamp(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+                .format(DT_FORMAT);
     }
 }
@@ -0,0 +1,180 @@
+package core.collections;
+
+/**
+ * Hash map from primitive {@code int} keys to {@code int} values.
+ * <p>
+ * Uses open addressing with linear probing over parallel arrays, so neither keys nor
+ * values are boxed and lookups touch no objects besides the arrays. The table size is
+ * a power of two and doubles when it becomes more than half full. Every {@code int}
+ * is a valid key. Entries cannot be removed. Not thread-safe.
+ * </p>
+ */
+public final class IntIntMap {
+
+    /** Keys of the occupied slots. */
+    private int[] keys;
+
+    /** Values of the occupied slots. */
+    private int[] values;
+
+    /** Whether each slot is occupied. */
+    private boolean[] used;
+
+    /** Number of entries. */
+    private int size;
+
+    /**
+     * Creates an empty map with a default capacity.
+     */
+    public IntIntMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty map able to hold {@code expected} entries without growing.
+     *
+     * @param expected the expected number of entries
+     */
+    public IntIntMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key          the key to look up
+     * @param defaultValue value returned if the key is absent
+     * @return the value of {@code key}, or {@code defaultValue}
+     */
+    public int get(int key, int defaultValue) {
+        int slot = find(key);
+        return used[slot] ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Returns whether a key is present.
+     *
+     * @param key the key to look up
+     * @return {@code true} if the map contains {@code key}
+     */
+    public boolean containsKey(int key) {
+        return used[find(key)];
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(int key, int value) {
+        int slot = find(key);
+        if (!used[slot]) {
+            slot = insert(slot, key);
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Adds a delta to the value of a key, treating an absent key as 0.
+     *
+     * @param key   the key
+     * @param delta the amount to add
+     * @return the new value of {@code key}
+     */
+    public int addTo(int key, int delta) {
+        int slot = find(key);
+        if (!used[slot]) {
+            slot = insert(slot, key);
+        }
+        return values[slot] += delta;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the values of every entry into a new array, in no particular order.
+     *
+     * @return an array of exactly {@link #size()} values
+     */
+    public int[] values() {
+        int[] out = new int[size];
+        int n = 0;
+        for (int i = 0; i < used.length; i++) {
+            if (used[i]) out[n++] = values[i];
+        }
+        return out;
+    }
+
+    /**
+     * Finds the slot holding a key, or the empty slot where it would be inserted.
+     *
+     * @param key the key to look up
+     * @return the slot index
+     */
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (used[slot] && keys[slot] != key) slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /**
+     * Occupies an empty slot with a key, growing the table if it becomes half full.
+     *
+     * @param slot empty slot returned by {@link #find(int)}
+     * @param key  the key to insert
+     * @return the slot now holding the key
+     */
+    private int insert(int slot, int key) {
+        if (2 * (size + 1) > keys.length) {
+            grow();
+            slot = find(key);
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = 0;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Doubles the table and reinserts every entry.
+     */
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i]) continue;
+            int slot = find(oldKeys[i]);
+            used[slot] = true;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Scrambles the bits of a key so that consecutive keys spread over the table.
+     *
+     * @param key the key
+     * @return the hash of the key
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,111 @@
+package core.collections;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive {@code int}s.
+ * <p>
+ * Stores its elements in a single {@code int[]} that doubles when full, so adding
+ * a value never boxes it. Intended for hot paths that would otherwise use a
+ * {@code List<Integer>}. Not thread-safe.
+ * </p>
+ */
+public final class IntList {
+
+    /** Backing array; only the first {@link #size} entries are meaningful. */
+    private int[] values;
+
+    /** Number of elements in the list. */
+    private int size;
+
+    /**
+     * Creates an empty list with a default capacity.
+     */
+    public IntList() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty list able to hold {@code capacity} elements without growing.
+     *
+     * @param capacity the initial capacity
+     */
+    public IntList(int capacity) {
+        values = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value the value to append
+     */
+    public void add(int value) {
+        if (size == values.length) values = Arrays.copyOf(values, size * 2);
+        values[size++] = value;
+    }
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index index of the value
+     * @return the value at {@code index}
+     * @throws IndexOutOfBoundsException if the index is outside the list
+     */
+    public int get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        return values[index];
+    }
+
+    /**
+     * Replaces the value at the given index.
+     *
+     * @param index index of the value
+     * @param value the new value
+     * @throws IndexOutOfBoundsException if the index is outside the list
+     */
+    public void set(int index, int value) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        values[index] = value;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the list is empty.
+     *
+     * @return {@code true} if the list has no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every element, keeping the capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the elements in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    /**
+     * Copies the elements into a new array.
+     *
+     * @return an array of exactly {@link #size()} elements
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
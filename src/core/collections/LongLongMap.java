@@ -0,0 +1,180 @@
+package core.collections;
+
+/**
+ * Hash map from primitive {@code long} keys to {@code long} values.
+ * <p>
+ * Uses open addressing with linear probing over parallel arrays, so neither keys nor
+ * values are boxed and lookups touch no objects besides the arrays. The table size is
+ * a power of two and doubles when it becomes more than half full. Every {@code long}
+ * is a valid key. Entries cannot be removed. Not thread-safe.
+ * </p>
+ */
+public final class LongLongMap {
+
+    /** Keys of the occupied slots. */
+    private long[] keys;
+
+    /** Values of the occupied slots. */
+    private long[] values;
+
+    /** Whether each slot is occupied. */
+    private boolean[] used;
+
+    /** Number of entries. */
+    private int size;
+
+    /**
+     * Creates an empty map with a default capacity.
+     */
+    public LongLongMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty map able to hold {@code expected} entries without growing.
+     *
+     * @param expected the expected number of entries
+     */
+    public LongLongMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key          the key to look up
+     * @param defaultValue value returned if the key is absent
+     * @return the value of {@code key}, or {@code defaultValue}
+     */
+    public long get(long key, long defaultValue) {
+        int slot = find(key);
+        return used[slot] ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Returns whether a key is present.
+     *
+     * @param key the key to look up
+     * @return {@code true} if the map contains {@code key}
+     */
+    public boolean containsKey(long key) {
+        return used[find(key)];
+    }
+
+    /**
+     * Associates a value with a key, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(long key, long value) {
+        int slot = find(key);
+        if (!used[slot]) {
+            slot = insert(slot, key);
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Adds a delta to the value of a key, treating an absent key as 0.
+     *
+     * @param key   the key
+     * @param delta the amount to add
+     * @return the new value of {@code key}
+     */
+    public long addTo(long key, long delta) {
+        int slot = find(key);
+        if (!used[slot]) {
+            slot = insert(slot, key);
+        }
+        return values[slot] += delta;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the values of every entry into a new array, in no particular order.
+     *
+     * @return an array of exactly {@link #size()} values
+     */
+    public long[] values() {
+        long[] out = new long[size];
+        int n = 0;
+        for (int i = 0; i < used.length; i++) {
+            if (used[i]) out[n++] = values[i];
+        }
+        return out;
+    }
+
+    /**
+     * Finds the slot holding a key, or the empty slot where it would be inserted.
+     *
+     * @param key the key to look up
+     * @return the slot index
+     */
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (used[slot] && keys[slot] != key) slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /**
+     * Occupies an empty slot with a key, growing the table if it becomes half full.
+     *
+     * @param slot empty slot returned by {@link #find(long)}
+     * @param key  the key to insert
+     * @return the slot now holding the key
+     */
+    private int insert(int slot, long key) {
+        if (2 * (size + 1) > keys.length) {
+            grow();
+            slot = find(key);
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = 0;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Doubles the table and reinserts every entry.
+     */
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i]) continue;
+            int slot = find(oldKeys[i]);
+            used[slot] = true;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Scrambles the bits of a key so that consecutive keys spread over the table.
+     *
+     * @param key the key
+     * @return the hash of the key
+     */
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
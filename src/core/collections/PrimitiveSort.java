@@ -0,0 +1,148 @@
+package core.collections;
+
+import java.util.Arrays;
+
+/**
+ * Sorting helpers for parallel primitive arrays.
+ * <p>
+ * {@code sortByKey} reorders a key array and a value array together, ordering entries
+ * by key and then by value, which replaces sorting a list of small arrays or boxed
+ * objects with a comparator. When values increase in insertion order (for example
+ * indexes, or pairs of indexes packed into a {@code long}), ties are therefore ordered
+ * exactly as a stable sort would order them. The {@code long} variant is an in-place
+ * quicksort with a median-of-three pivot and insertion sort for short ranges, and
+ * allocates nothing; the {@code int} variant packs each entry into a {@code long}.
+ * </p>
+ */
+public final class PrimitiveSort {
+
+    /** Ranges at most this long are sorted by insertion. */
+    private static final int INSERTION_THRESHOLD = 24;
+
+    /** Not instantiable. */
+    private PrimitiveSort() {
+    }
+
+    /**
+     * Sorts two parallel arrays by key, then by value.
+     *
+     * @param keys   the sort keys
+     * @param values the values moved along with their keys, at least as long as {@code keys}
+     */
+    public static void sortByKey(long[] keys, long[] values) {
+        sortByKey(keys, values, 0, keys.length);
+    }
+
+    /**
+     * Sorts a range of two parallel arrays by key, then by value.
+     *
+     * @param keys   the sort keys
+     * @param values the values moved along with their keys
+     * @param from   first index of the range, inclusive
+     * @param to     last index of the range, exclusive
+     */
+    public static void sortByKey(long[] keys, long[] values, int from, int to) {
+        int lo = from;
+        int hi = to - 1;
+        while (hi - lo >= INSERTION_THRESHOLD) {
+            int mid = (lo + hi) >>> 1;
+            if (less(keys, values, mid, lo)) swap(keys, values, mid, lo);
+            if (less(keys, values, hi, lo)) swap(keys, values, hi, lo);
+            if (less(keys, values, hi, mid)) swap(keys, values, hi, mid);
+            long pivotKey = keys[mid];
+            long pivotValue = values[mid];
+
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (keys[i] < pivotKey || (keys[i] == pivotKey && values[i] < pivotValue)) i++;
+                while (keys[j] > pivotKey || (keys[j] == pivotKey && values[j] > pivotValue)) j--;
+                if (i <= j) swap(keys, values, i++, j--);
+            }
+
+            // Recurse into the smaller side and loop on the larger one to bound the stack depth
+            if (j - lo < hi - i) {
+                sortByKey(keys, values, lo, j + 1);
+                lo = i;
+            } else {
+                sortByKey(keys, values, i, hi + 1);
+                hi = j;
+            }
+        }
+
+        for (int i = lo + 1; i <= hi; i++) {
+            long key = keys[i];
+            long value = values[i];
+            int j = i - 1;
+            while (j >= lo && (keys[j] > key || (keys[j] == key && values[j] > value))) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    /**
+     * Sorts two parallel arrays by key, then by value.
+     *
+     * @param keys   the sort keys
+     * @param values the values moved along with their keys, at least as long as {@code keys}
+     */
+    public static void sortByKey(int[] keys, int[] values) {
+        long[] packed = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            packed[i] = ((long) keys[i] << 32) | ((values[i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+        }
+        Arrays.sort(packed);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (int) (packed[i] >> 32);
+            values[i] = (int) packed[i] ^ Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Sorts an array in descending order.
+     *
+     * @param a the array to sort
+     */
+    public static void sortDescending(int[] a) {
+        Arrays.sort(a);
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    /**
+     * Compares two entries of parallel arrays by key, then by value.
+     *
+     * @param keys   the sort keys
+     * @param values the values
+     * @param a      index of the first entry
+     * @param b      index of the second entry
+     * @return {@code true} if entry {@code a} sorts before entry {@code b}
+     */
+    private static boolean less(long[] keys, long[] values, int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && values[a] < values[b]);
+    }
+
+    /**
+     * Swaps two entries of parallel arrays.
+     *
+     * @param keys   the sort keys
+     * @param values the values
+     * @param a      index of the first entry
+     * @param b      index of the second entry
+     */
+    private static void swap(long[] keys, long[] values, int a, int b) {
+        long k = keys[a];
+        keys[a] = keys[b];
+        keys[b] = k;
+        long v = values[a];
+        values[a] = values[b];
+        values[b] = v;
+    }
+}
@@ -1,42 +1,87 @@
 package days.day01;
 
-import core.Solver;
+import core.Cursor;
+import core.ParallelReduce;
+import core.PreparedSolver;
+import core.StreamingSolver;
+
+import java.util.Iterator;
 import java.util.List;
 
 /**
  * Solver for Day 01: Secret Entrance problem.
  * <p>
- * Implements the {@link core.Solver} interface, providing solutions for both
+ * Implements the {@link core.PreparedSolver} interface, providing solutions for both
  * the Silver and Gold variants of the problem. The logic calculates dial
  * movements and counts zeros according to the problem rules.
  * </p>
+ * <p>
+ * Since the dial is the only state carried from one rotation to the next, it also
+ * implements {@link core.StreamingSolver} and can solve inputs of any size in
+ * constant memory.
+ * </p>
+ * <p>
+ * Large prepared inputs are split into chunks solved in parallel through
+ * {@link ParallelReduce}. A chunk cannot simply be replayed, since its counts depend on
+ * the dial position it starts from, so it is summarized as a function of that position:
+ * a {@link Segment} holds its counts for each of the 100 starting positions, and two
+ * adjacent segments compose in O(100).
+ * </p>
  */
-public class SecretEntrance implements Solver {
+public class SecretEntrance implements PreparedSolver<int[]>, StreamingSolver {
+
+    /** Number of positions on the dial. */
+    private static final int POSITIONS = 100;
+
+    /** Position of the dial before the first rotation. */
+    private static final int START = 50;
+
+    /** Smallest number of rotations worth a parallel chunk. */
+    private static final int MIN_CHUNK = 8192;
+
+    /** Whether large inputs are split into chunks solved in parallel. */
+    private final boolean parallel;
 
     /**
-     * Computes the password count based on the input lines and method.
+     * Creates a solver splitting large inputs into parallel chunks.
+     */
+    public SecretEntrance() {
+        this(true);
+    }
+
+    /**
+     * Creates a solver, optionally restricted to its sequential loop.
      * <p>
-     * Iterates over each instruction in the input, calculates dial movement,
-     * and counts occurrences of zeros using two different methods:
-     * <ul>
-     *     <li>Method 0x (Gold): counts all crossings of zero.</li>
-     *     <li>Method 1 (Silver): counts zeros at the final dial position.</li>
-     * </ul>
+     * The sequential solver is the reference the parallel one is verified against.
      * </p>
      *
-     * @param method_0x if {@code true}, uses the Gold method; if {@code false}, uses Silver
-     * @param lines     list of strings representing movement instructions
-     * @return the number of zeros counted according to the chosen method
+     * @param parallel {@code false} to always solve on the calling thread
+     */
+    public SecretEntrance(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Dial position and zero counters, updated one rotation at a time.
      */
-    private static int find_password(boolean method_0x, List<String> lines) {
-        int dial = 50;
-        int countZerosP1 = 0;
-        int countZerosP2 = 0;
+    private static final class Dial {
+        /** Current position of the dial, between 0 and 99. */
+        int dial = START;
+
+        /** Number of times the dial crossed or reached zero (Gold). */
+        long countZerosP1 = 0;
 
-        for (String line : lines) {
-            char dirChar = line.charAt(0);
-            int direction = (dirChar == 'L') ? -1 : 1;
-            int value = Integer.parseInt(line.substring(1));
+        /** Number of rotations ending at zero (Silver). */
+        long countZerosP2 = 0;
+
+        /**
+         * Applies a rotation and updates both counters.
+         *
+         * @param move signed rotation, negative for left and positive for right
+         */
+        void turn(int move) {
+            int direction = (move < 0) ? -1 : 1;
+            int value = Math.abs(move);
 
             int start = dial;
             int delta = direction * value;
@@ -57,28 +102,219 @@ public class SecretEntrance implements Solver {
             }
         }
 
-        return method_0x ? countZerosP1 : countZerosP2;
+        /**
+         * Returns the password according to the chosen method.
+         *
+         * @param method_0x if {@code true}, uses the Gold method; if {@code false}, uses Silver
+         * @return the number of zeros counted according to the chosen method
+         */
+        long password(boolean method_0x) {
+            return method_0x ? countZerosP1 : countZerosP2;
+        }
+    }
+
+    /**
+     * Summary of a run of consecutive rotations, as a function of the starting dial position.
+     */
+    private static final class Segment {
+        /** Net rotation of the run, modulo {@link #POSITIONS}. */
+        final int offset;
+
+        /** Counted zeros, indexed by starting position. */
+        final long[] zeros;
+
+        /**
+         * Creates a segment.
+         *
+         * @param offset net rotation, modulo {@link #POSITIONS}
+         * @param zeros  counted zeros, indexed by starting position
+         */
+        Segment(int offset, long[] zeros) {
+            this.offset = offset;
+            this.zeros = zeros;
+        }
+
+        /**
+         * Summarizes rotations {@code [from, to)} for every starting position.
+         * <p>
+         * Positions are unwrapped: with {@code P} the net rotation applied before a move,
+         * the dial starts the move at {@code s + P} for a starting position {@code s}.
+         * A rotation ends at zero when {@code s + P} is a multiple of 100 afterwards, which
+         * depends only on {@code P} modulo 100. A right rotation by {@code v} crosses
+         * {@code floor((s+P+v)/100) - floor((s+P)/100)} zeros, and a left one
+         * {@code floor((s+P-1)/100) - floor((s+P-v-1)/100)}. Each
+         * {@code floor((s+c)/100)} equals {@code floorDiv(c, 100)} plus one once {@code s}
+         * reaches {@code 100 - floorMod(c, 100)}, so the crossings of every starting position
+         * follow from a constant and a prefix sum over those thresholds.
+         * </p>
+         *
+         * @param moves     signed rotations
+         * @param from      first rotation, inclusive
+         * @param to        last rotation, exclusive
+         * @param method_0x if {@code true}, counts crossings (Gold); otherwise rotations ending at zero (Silver)
+         * @return the summary of the rotations
+         */
+        static Segment of(int[] moves, int from, int to, boolean method_0x) {
+            long[] zeros = new long[POSITIONS];
+            long position = 0;
+            if (method_0x) {
+                long base = 0;
+                long[] steps = new long[POSITIONS];
+                for (int i = from; i < to; i++) {
+                    int move = moves[i];
+                    long high = (move > 0) ? position + move : position - 1;
+                    long low = (move > 0) ? position : position + move - 1;
+                    base += Math.floorDiv(high, POSITIONS) - Math.floorDiv(low, POSITIONS);
+                    int highRest = Math.floorMod(high, POSITIONS);
+                    int lowRest = Math.floorMod(low, POSITIONS);
+                    if (highRest != 0) steps[POSITIONS - highRest]++;
+                    if (lowRest != 0) steps[POSITIONS - lowRest]--;
+                    position += move;
+                }
+                long crossings = base;
+                for (int s = 0; s < POSITIONS; s++) {
+                    crossings += steps[s];
+                    zeros[s] = crossings;
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    position += moves[i];
+                    zeros[Math.floorMod(-position, POSITIONS)]++;
+                }
+            }
+            return new Segment(Math.floorMod(position, POSITIONS), zeros);
+        }
+
+        /**
+         * Composes this segment with the one following it.
+         *
+         * @param next the segment of the rotations right after this one
+         * @return the summary of both runs of rotations
+         */
+        Segment then(Segment next) {
+            long[] combined = new long[POSITIONS];
+            for (int s = 0; s < POSITIONS; s++) {
+                combined[s] = zeros[s] + next.zeros[(s + offset) % POSITIONS];
+            }
+            return new Segment((offset + next.offset) % POSITIONS, combined);
+        }
+    }
+
+    /**
+     * Parses the movement instructions into signed rotations.
+     * <p>
+     * Left rotations ('L') become negative values and right rotations ('R') positive ones.
+     * </p>
+     *
+     * @param input list of strings representing movement instructions
+     * @return an array with one signed rotation per instruction
+     */
+    @Override
+    public int[] prepare(List<String> input) {
+        int[] moves = new int[input.size()];
+        Cursor cursor = new Cursor("");
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = parseMove(cursor.reset(input.get(i)));
+        }
+        return moves;
+    }
+
+    /**
+     * Parses a single movement instruction into a signed rotation.
+     *
+     * @param cursor cursor positioned at the start of the instruction, e.g. "L68"
+     * @return the rotation, negative for left and positive for right
+     */
+    private static int parseMove(Cursor cursor) {
+        int direction = (cursor.next() == 'L') ? -1 : 1;
+        return direction * cursor.nextInt();
+    }
+
+    /**
+     * Computes the password count based on the input lines and method.
+     * <p>
+     * Iterates over each instruction in the input, calculates dial movement,
+     * and counts occurrences of zeros using two different methods:
+     * <ul>
+     *     <li>Method 0x (Gold): counts all crossings of zero.</li>
+     *     <li>Method 1 (Silver): counts zeros at the final dial position.</li>
+     * </ul>
+     * </p>
+     *
+     * @param method_0x if {@code true}, uses the Gold method; if {@code false}, uses Silver
+     * @param moves     signed rotations produced by {@link #prepare(List)}
+     * @return the number of zeros counted according to the chosen method
+     */
+    private long find_password(boolean method_0x, int[] moves) {
+        if (parallel && ParallelReduce.splits(moves.length, MIN_CHUNK)) {
+            Segment all = ParallelReduce.reduce(moves.length, MIN_CHUNK,
+                    (from, to) -> Segment.of(moves, from, to, method_0x), Segment::then);
+            return all.zeros[START];
+        }
+        Dial dial = new Dial();
+        for (int move : moves) {
+            dial.turn(move);
+        }
+        return dial.password(method_0x);
+    }
+
+    /**
+     * Computes the password count while reading the instructions one at a time.
+     *
+     * @param method_0x if {@code true}, uses the Gold method; if {@code false}, uses Silver
+     * @param lines     iterator over the movement instructions
+     * @return the number of zeros counted according to the chosen method
+     */
+    private static long find_password(boolean method_0x, Iterator<String> lines) {
+        Dial dial = new Dial();
+        Cursor cursor = new Cursor("");
+        while (lines.hasNext()) {
+            dial.turn(parseMove(cursor.reset(lines.next())));
+        }
+        return dial.password(method_0x);
     }
 
     /**
      * Solves the Silver variant of the Secret Entrance problem.
      *
-     * @param input list of strings representing the problem input
+     * @param moves signed rotations produced by {@link #prepare(List)}
      * @return the result for the Silver problem as a {@code long}
      */
     @Override
-    public long solveSilver(List<String> input) {
-        return find_password(false, input);
+    public long solveSilverPrepared(int[] moves) {
+        return find_password(false, moves);
     }
 
     /**
      * Solves the Gold variant of the Secret Entrance problem.
      *
-     * @param input list of strings representing the problem input
+     * @param moves signed rotations produced by {@link #prepare(List)}
+     * @return the result for the Gold problem as a {@code long}
+     */
+    @Override
+    public long solveGoldPrepared(int[] moves) {
+        return find_password(true, moves);
+    }
+
+    /**
+     * Solves the Silver variant while reading the instructions.
+     *
+     * @param lines iterator over the movement instructions
+     * @return the result for the Silver problem as a {@code long}
+     */
+    @Override
+    public long solveSilverStreaming(Iterator<String> lines) {
+        return find_password(false, lines);
+    }
+
+    /**
+     * Solves the Gold variant while reading the instructions.
+     *
+     * @param lines iterator over the movement instructions
      * @return the result for the Gold problem as a {@code long}
      */
     @Override
-    public long solveGold(List<String> input) {
-        return find_password(true, input);
+    public long solveGoldStreaming(Iterator<String> lines) {
+        return find_password(true, lines);
     }
 }
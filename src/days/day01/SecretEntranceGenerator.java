@@ -0,0 +1,37 @@
+package days.day01;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input generator for Day 01: Secret Entrance.
+ * <p>
+ * Produces {@value #BASE_LINES} rotations per unit of scale, each one "L" or "R"
+ * followed by a distance between 1 and 999.
+ * </p>
+ */
+public class SecretEntranceGenerator implements InputGenerator {
+
+    /** Number of rotations at scale 1. */
+    private static final int BASE_LINES = 4500;
+
+    /**
+     * Generates a list of random rotations.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return one rotation per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int n = BASE_LINES * scale;
+        List<String> lines = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            lines.add((random.nextBoolean() ? "L" : "R") + (1 + random.nextInt(999)));
+        }
+        return lines;
+    }
+}
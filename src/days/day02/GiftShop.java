@@ -1,30 +1,49 @@
 package days.day02;
 
-import core.Solver;
+import core.Cursor;
+import core.PreparedSolver;
+import core.SolveContext;
+import core.collections.LongList;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * Solver for Day 02: Gift Shop problem.
  * <p>
- * Implements the {@link core.Solver} interface, providing solutions for both
+ * Implements the {@link core.PreparedSolver} interface, providing solutions for both
  * Silver and Gold variants. The problem involves identifying numbers with
  * repeated digit sequences according to specific rules.
  * </p>
+ * <p>
+ * Every ID of every range is checked, so both variants poll the {@link SolveContext}
+ * while iterating and report the ranges processed.
+ * </p>
  */
-public class GiftShop implements Solver {
+public class GiftShop implements PreparedSolver<long[]> {
 
     /**
-     * Splits a line by commas and trims whitespace from each value.
+     * Parses the comma-separated ID ranges of the first input line.
+     * <p>
+     * Parsing stops at the first field that is not a range, so a trailing comma or an
+     * empty final field is ignored.
+     * </p>
      *
-     * @param line the input line containing comma-separated values
-     * @return a list of trimmed strings
+     * @param input list of strings representing the problem input
+     * @return a flat array of bounds, {@code [start0, end0, start1, end1, ...]}
      */
-    private List<String> getValues(String line) {
-        return Arrays.stream(line.split(","))
-                .map(String::trim)
-                .toList();
+    @Override
+    public long[] prepare(List<String> input) {
+        Cursor cursor = new Cursor(input.get(0));
+        LongList bounds = new LongList();
+
+        while (cursor.hasNumber()) {
+            bounds.add(cursor.nextLong());
+            cursor.skipWhitespace().expect('-');
+            bounds.add(cursor.nextLong());
+            cursor.skipWhitespace().skip(',');
+        }
+
+        return bounds.toArray();
     }
 
     /**
@@ -74,24 +93,26 @@ public class GiftShop implements Solver {
      * Sums all numbers in the input ranges that consist of a sequence repeated exactly twice.
      * </p>
      *
-     * @param input list of strings representing the problem input
+     * @param bounds flat array of range bounds produced by {@link #prepare(List)}
      * @return the sum of all valid numbers for the Silver problem
      */
     @Override
-    public long solveSilver(List<String> input) {
+    public long solveSilverPrepared(long[] bounds) {
+        SolveContext context = SolveContext.current();
+        SolveContext.Ticker ticker = context.ticker();
         long sum = 0;
-        List<String> ranges = getValues(input.get(0));
 
-        for (String range : ranges) {
-            String[] bounds = range.split("-");
-            long start = Long.parseLong(bounds[0]);
-            long end = Long.parseLong(bounds[1]);
+        for (int r = 0; r < bounds.length; r += 2) {
+            long start = bounds[r];
+            long end = bounds[r + 1];
 
             for (long id = start; id <= end; id++) {
+                ticker.tick();
                 if (isRepeatedSequenceTwice(id)) {
                     sum += id;
                 }
             }
+            context.progress(r / 2 + 1, bounds.length / 2, "ranges");
         }
 
         return sum;
@@ -104,24 +125,26 @@ public class GiftShop implements Solver {
      * multiple times (including twice or more).
      * </p>
      *
-     * @param input list of strings representing the problem input
+     * @param bounds flat array of range bounds produced by {@link #prepare(List)}
      * @return the sum of all valid numbers for the Gold problem
      */
     @Override
-    public long solveGold(List<String> input) {
+    public long solveGoldPrepared(long[] bounds) {
+        SolveContext context = SolveContext.current();
+        SolveContext.Ticker ticker = context.ticker();
         long sum = 0;
-        List<String> ranges = getValues(input.get(0));
 
-        for (String range : ranges) {
-            String[] bounds = range.split("-");
-            long start = Long.parseLong(bounds[0]);
-            long end = Long.parseLong(bounds[1]);
+        for (int r = 0; r < bounds.length; r += 2) {
+            long start = bounds[r];
+            long end = bounds[r + 1];
 
             for (long id = start; id <= end; id++) {
+                ticker.tick();
                 if (isRepeatedSequenceMultiple(id)) {
                     sum += id;
                 }
             }
+            context.progress(r / 2 + 1, bounds.length / 2, "ranges");
         }
 
         return sum;
@@ -0,0 +1,44 @@
+package days.day02;
+
+import core.InputGenerator;
+
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * Input generator for Day 02: Gift Shop.
+ * <p>
+ * Produces a single line of {@value #BASE_RANGES} comma-separated ID ranges per unit
+ * of scale. Each range starts at a random ID of 2 to 10 digits and spans up to
+ * {@value #MAX_WIDTH} IDs, so the per-ID loop visits about 50,000 IDs per range.
+ * </p>
+ */
+public class GiftShopGenerator implements InputGenerator {
+
+    /** Number of ranges at scale 1. */
+    private static final int BASE_RANGES = 35;
+
+    /** Largest number of IDs in a range. */
+    private static final int MAX_WIDTH = 100_000;
+
+    /**
+     * Generates a line of random ID ranges.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return a single line of ranges
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        StringJoiner line = new StringJoiner(",");
+        for (int i = 0; i < BASE_RANGES * scale; i++) {
+            int digits = 2 + random.nextInt(9);
+            long low = (long) Math.pow(10, digits - 1);
+            long start = low + (long) (random.nextDouble() * (9 * low));
+            long end = start + random.nextInt(MAX_WIDTH);
+            line.add(start + "-" + end);
+        }
+        return List.of(line.toString());
+    }
+}
@@ -1,54 +1,105 @@
 package days.day03;
 
-import core.Solver;
+import core.ParallelReduce;
+import core.StreamingSolver;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 
 /**
  * Solver for Day 03: Lobby problem.
  * <p>
- * Implements the {@link core.Solver} interface, providing solutions for both
+ * Implements the {@link core.StreamingSolver} interface, providing solutions for both
  * Silver and Gold variants. The problem involves calculating the maximum joltage
- * by selecting a subsequence of digits from each input line.
+ * by selecting a subsequence of digits from each input line. Lines are independent,
+ * so inputs can also be solved while they are read.
+ * </p>
+ * <p>
+ * For the same reason, inputs held in memory are summed in chunks of lines in
+ * parallel through {@link ParallelReduce}.
  * </p>
  */
-public class Lobby implements Solver {
+public class Lobby implements StreamingSolver {
+
+    /** Smallest number of lines worth a parallel chunk. */
+    private static final int MIN_CHUNK = 2048;
+
+    /** Whether large inputs are split into chunks solved in parallel. */
+    private final boolean parallel;
+
+    /**
+     * Creates a solver splitting large inputs into parallel chunks.
+     */
+    public Lobby() {
+        this(true);
+    }
+
+    /**
+     * Creates a solver, optionally restricted to its sequential loop.
+     * <p>
+     * The sequential solver is the reference the parallel one is verified against.
+     * </p>
+     *
+     * @param parallel {@code false} to always solve on the calling thread
+     */
+    public Lobby(boolean parallel) {
+        this.parallel = parallel;
+    }
 
     /**
      * Calculates the maximum number that can be formed by selecting {@code k} digits
      * from the given line while preserving order.
      * <p>
      * Uses a greedy stack-based algorithm to ensure that the resulting number is
-     * maximized.
+     * maximized. The stack is a caller-provided array and the digits are accumulated
+     * directly into the result, so no object is allocated per line.
      * </p>
      *
-     * @param line the string of digits
-     * @param k    the number of digits to select
+     * @param line  the string of digits
+     * @param k     the number of digits to select
+     * @param stack scratch array of at least {@code line.length()} characters
      * @return the maximum number formed as a {@code long}
      */
-    private long maxJoltageForLine(String line, int k) {
+    private long maxJoltageForLine(String line, int k, char[] stack) {
         int n = line.length();
-        Deque<Character> stack = new ArrayDeque<>();
+        int size = 0;
         int toRemove = n - k;
 
-        for (char c : line.toCharArray()) {
-            while (!stack.isEmpty() && toRemove > 0 && stack.peekLast() < c) {
-                stack.pollLast();
+        for (int i = 0; i < n; i++) {
+            char c = line.charAt(i);
+            while (size > 0 && toRemove > 0 && stack[size - 1] < c) {
+                size--;
                 toRemove--;
             }
-            stack.addLast(c);
+            stack[size++] = c;
         }
 
-        while (stack.size() > k) {
-            stack.pollLast();
-        }
+        size = Math.min(size, k);
+
+        long joltage = 0;
+        for (int i = 0; i < size; i++) joltage = joltage * 10 + (stack[i] - '0');
+
+        return joltage;
+    }
+
+    /**
+     * Sums the maximum joltage of every line.
+     *
+     * @param lines iterator over the banks of batteries
+     * @param k     the number of digits to select per line
+     * @return the total maximum joltage
+     */
+    private long totalJoltage(Iterator<String> lines, int k) {
+        long joltage = 0;
+        char[] stack = new char[0];
 
-        StringBuilder sb = new StringBuilder(k);
-        for (char c : stack) sb.append(c);
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (stack.length < line.length()) stack = new char[line.length()];
+            joltage += maxJoltageForLine(line, k, stack);
+        }
 
-        return Long.parseLong(sb.toString());
+        return joltage;
     }
 
     /**
@@ -63,13 +114,9 @@ public class Lobby implements Solver {
      */
     @Override
     public long solveSilver(List<String> input) {
-        long joltage = 0;
-
-        for (String line : input) {
-            joltage += maxJoltageForLine(line, 2);
-        }
-
-        return joltage;
+        if (!parallel) return totalJoltage(input.iterator(), 2);
+        return ParallelReduce.sum(input.size(), MIN_CHUNK,
+                (from, to) -> totalJoltage(input.subList(from, to).iterator(), 2));
     }
 
     /**
@@ -84,12 +131,30 @@ public class Lobby implements Solver {
      */
     @Override
     public long solveGold(List<String> input) {
-        long joltage = 0;
+        if (!parallel) return totalJoltage(input.iterator(), 12);
+        return ParallelReduce.sum(input.size(), MIN_CHUNK,
+                (from, to) -> totalJoltage(input.subList(from, to).iterator(), 12));
+    }
 
-        for (String line : input) {
-            joltage += maxJoltageForLine(line, 12);
-        }
+    /**
+     * Solves the Silver variant while reading the input.
+     *
+     * @param lines iterator over the banks of batteries
+     * @return the total maximum joltage for the Silver problem
+     */
+    @Override
+    public long solveSilverStreaming(Iterator<String> lines) {
+        return totalJoltage(lines, 2);
+    }
 
-        return joltage;
+    /**
+     * Solves the Gold variant while reading the input.
+     *
+     * @param lines iterator over the banks of batteries
+     * @return the total maximum joltage for the Gold problem
+     */
+    @Override
+    public long solveGoldStreaming(Iterator<String> lines) {
+        return totalJoltage(lines, 12);
     }
 }
@@ -0,0 +1,44 @@
+package days.day03;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input generator for Day 03: Lobby.
+ * <p>
+ * Produces {@value #BASE_LINES} banks per unit of scale, each one a line of
+ * {@value #WIDTH} random digits between 1 and 9.
+ * </p>
+ */
+public class LobbyGenerator implements InputGenerator {
+
+    /** Number of banks at scale 1. */
+    private static final int BASE_LINES = 200;
+
+    /** Number of batteries per bank. */
+    private static final int WIDTH = 100;
+
+    /**
+     * Generates a list of random battery banks.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return one bank per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int n = BASE_LINES * scale;
+        List<String> lines = new ArrayList<>(n);
+        char[] bank = new char[WIDTH];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < WIDTH; j++) {
+                bank[j] = (char) ('1' + random.nextInt(9));
+            }
+            lines.add(new String(bank));
+        }
+        return lines;
+    }
+}
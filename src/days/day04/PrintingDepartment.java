@@ -1,8 +1,8 @@
 package days.day04;
 
+import core.Grid;
 import core.Solver;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -13,9 +13,19 @@ import java.util.List;
  * Silver and Gold variants. The problem involves counting accessible rolls of paper
  * in a 2D board according to specific adjacency rules.
  * </p>
+ * <p>
+ * The board is parsed into a {@link Grid} whose border is empty, so counting the
+ * neighbours of a roll needs no bounds checks.
+ * </p>
  */
 public class PrintingDepartment implements Solver {
 
+    /** Cell holding a roll of paper. */
+    private static final byte ROLL = '@';
+
+    /** Empty cell, also used for the border of the board. */
+    private static final byte EMPTY = '.';
+
     /**
      * Determines whether a paper roll at the specified position is accessible.
      * <p>
@@ -24,23 +34,13 @@ public class PrintingDepartment implements Solver {
      * are adjacent.
      * </p>
      *
-     * @param line  the row index of the roll
-     * @param column the column index of the roll
-     * @param board  the 2D board as a list of character sequences
+     * @param index the flat index of the roll
+     * @param board the board
      * @return {@code true} if the roll is accessible, {@code false} otherwise
      */
-    private boolean isAccessible(int line, int column, List<? extends CharSequence> board) {
-        int count = 0;
-        for (int l = line - 1; l <= line + 1; l++) {
-            for (int c = column - 1; c <= column + 1; c++) {
-                if (l < 0 || l >= board.size() || c < 0 || c >= board.get(0).length()) continue;
-                if (board.get(l).charAt(c) == '@') {
-                    count++;
-                    if (count > 4) return false;
-                }
-            }
-        }
-        return true;
+    private boolean isAccessible(int index, Grid board) {
+        int count = board.countAround(index, ROLL) + (board.get(index) == ROLL ? 1 : 0);
+        return count <= 4;
     }
 
     /**
@@ -54,14 +54,13 @@ public class PrintingDepartment implements Solver {
      */
     @Override
     public long solveSilver(List<String> input) {
-        int n_lines = input.size();
-        int n_columns = input.get(0).length();
+        Grid board = Grid.parse(input, EMPTY);
         long rolls = 0;
 
-        for (int line = 0; line < n_lines; line++) {
-            for (int column = 0; column < n_columns; column++) {
-                if (input.get(line).charAt(column) == '.') continue;
-                if (isAccessible(line, column, input)) rolls++;
+        for (int line = 0; line < board.height(); line++) {
+            for (int i = board.index(line, 0), end = i + board.width(); i < end; i++) {
+                if (board.get(i) == EMPTY) continue;
+                if (isAccessible(i, board)) rolls++;
             }
         }
 
@@ -80,36 +79,25 @@ public class PrintingDepartment implements Solver {
      */
     @Override
     public long solveGold(List<String> input) {
-        int n_lines = input.size();
-        int n_columns = input.get(0).length();
+        Grid board = Grid.parse(input, EMPTY);
+        int n_lines = board.height();
         long rolls = 0;
         boolean changes;
-        int n_papers = 0;
+        int n_papers = board.width() * n_lines - board.count(EMPTY);
         boolean[] activeRows = new boolean[n_lines];
         Arrays.fill(activeRows, true);
 
-        List<StringBuilder> board = new ArrayList<>();
-        for (String line : input) {
-            board.add(new StringBuilder(line));
-        }
-
-        for (StringBuilder sb : board) {
-            for (int c = 0; c < sb.length(); c++) {
-                if (sb.charAt(c) != '.') n_papers++;
-            }
-        }
-
         do {
             changes = false;
             for (int line = 0; line < n_lines; line++) {
                 if (!activeRows[line]) continue;
                 boolean hasPaper = false;
 
-                for (int column = 0; column < n_columns; column++) {
-                    if (board.get(line).charAt(column) == '.') continue;
+                for (int i = board.index(line, 0), end = i + board.width(); i < end; i++) {
+                    if (board.get(i) == EMPTY) continue;
 
-                    if (isAccessible(line, column, board)) {
-                        board.get(line).setCharAt(column, '.');
+                    if (isAccessible(i, board)) {
+                        board.set(i, EMPTY);
                         n_papers--;
                         changes = true;
                         rolls++;
@@ -0,0 +1,45 @@
+package days.day04;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input generator for Day 04: Printing Department.
+ * <p>
+ * Produces a square grid whose area is {@code scale} times the puzzle grid
+ * ({@value #BASE_SIDE}×{@value #BASE_SIDE}), where each cell holds a roll of paper
+ * ('@') with probability {@value #DENSITY}.
+ * </p>
+ */
+public class PrintingDepartmentGenerator implements InputGenerator {
+
+    /** Side of the grid at scale 1. */
+    private static final int BASE_SIDE = 137;
+
+    /** Probability of a cell holding a roll. */
+    private static final double DENSITY = 0.7;
+
+    /**
+     * Generates a random grid of rolls.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return one grid row per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int side = (int) Math.round(BASE_SIDE * Math.sqrt(scale));
+        List<String> lines = new ArrayList<>(side);
+        char[] row = new char[side];
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                row[x] = (random.nextDouble() < DENSITY) ? '@' : '.';
+            }
+            lines.add(new String(row));
+        }
+        return lines;
+    }
+}
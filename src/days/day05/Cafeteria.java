@@ -1,95 +1,105 @@
 package days.day05;
 
-import core.Solver;
+import core.Cursor;
+import core.PreparedSolver;
+import core.collections.LongList;
+import core.collections.PrimitiveSort;
 
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Solver for Day 05: Cafeteria problem.
  * <p>
- * Implements the {@link core.Solver} interface, providing solutions for both
+ * Implements the {@link core.PreparedSolver} interface, providing solutions for both
  * Silver and Gold variants. The problem involves counting values that fall
  * within specified ranges and calculating total covered ranges.
  * </p>
  */
-public class Cafeteria implements Solver {
+public class Cafeteria implements PreparedSolver<ParsedInput> {
 
     /**
      * Parses the input into separate ranges and individual values.
      * <p>
      * Lines containing a dash '-' are treated as ranges [start-end], while other
-     * lines are treated as individual values.
+     * lines are treated as individual values. The ranges are merged before being
+     * returned, since both variants only work with merged ranges.
      * </p>
      *
      * @param input list of strings representing the problem input
-     * @return a {@link ParsedInput} object containing lists of ranges and values
+     * @return a {@link ParsedInput} object containing the merged ranges and values
      */
-    private ParsedInput parseInput(List<String> input) {
-        List<long[]> ranges = new ArrayList<>();
-        List<Long> values = new ArrayList<>();
+    @Override
+    public ParsedInput prepare(List<String> input) {
+        LongList starts = new LongList();
+        LongList ends = new LongList();
+        LongList values = new LongList();
+        Cursor cursor = new Cursor("");
 
         for (String line : input) {
-            line = line.trim();
-            if (line.isEmpty()) continue;
-
-            if (line.contains("-")) {
-                String[] parts = line.split("-");
-                long start = Long.parseLong(parts[0]);
-                long end = Long.parseLong(parts[1]);
-                ranges.add(new long[]{start, end});
+            cursor.reset(line).skipWhitespace();
+            if (!cursor.hasNext()) continue;
+
+            long first = cursor.nextLong();
+            if (cursor.skip('-')) {
+                starts.add(first);
+                ends.add(cursor.nextLong());
             } else {
-                values.add(Long.parseLong(line));
+                values.add(first);
             }
         }
 
-        return new ParsedInput(ranges, values);
+        return mergeRanges(starts.toArray(), ends.toArray(), values.toArray());
     }
 
     /**
-     * Merges overlapping or contiguous ranges into a minimal list of ranges.
+     * Merges overlapping or contiguous ranges into a minimal set of ranges.
+     * <p>
+     * The ranges are sorted in place by start, then compacted at the front of the
+     * same arrays, which are trimmed to the number of merged ranges, none if there are
+     * no ranges at all.
+     * </p>
      *
-     * @param ranges list of ranges represented as long arrays [start, end]
-     * @return a new list of merged ranges
+     * @param starts inclusive start of each range
+     * @param ends   inclusive end of each range
+     * @param values individual values, passed through
+     * @return a {@link ParsedInput} with the merged ranges and the values
      */
-    private List<long[]> mergeRanges(List<long[]> ranges) {
-        ranges.sort(Comparator.comparingLong(a -> a[0]));
-
-        List<long[]> merged = new ArrayList<>();
-        long[] curr = ranges.get(0);
-
-        for (int i = 1; i < ranges.size(); i++) {
-            long[] r = ranges.get(i);
+    private ParsedInput mergeRanges(long[] starts, long[] ends, long[] values) {
+        PrimitiveSort.sortByKey(starts, ends);
 
-            if (r[0] <= curr[1]) {
-                curr[1] = Math.max(curr[1], r[1]);
+        int merged = 0;
+        for (int i = 1; i < starts.length; i++) {
+            if (starts[i] <= ends[merged]) {
+                ends[merged] = Math.max(ends[merged], ends[i]);
             } else {
-                merged.add(curr);
-                curr = r;
+                merged++;
+                starts[merged] = starts[i];
+                ends[merged] = ends[i];
             }
         }
-        merged.add(curr);
-        return merged;
+        int count = (starts.length == 0) ? 0 : merged + 1;
+        return new ParsedInput(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count), values);
     }
 
     /**
      * Checks whether a value is contained within any of the given ranges.
      *
-     * @param ranges list of merged ranges
+     * @param parsed parsed input holding the merged ranges
      * @param value  the value to check
      * @return {@code true} if the value falls within a range, {@code false} otherwise
      */
-    private boolean isInRanges(List<long[]> ranges, long value) {
-        int low = 0, high = ranges.size() - 1;
+    private boolean isInRanges(ParsedInput parsed, long value) {
+        long[] starts = parsed.starts;
+        long[] ends = parsed.ends;
+        int low = 0, high = starts.length - 1;
 
         while (low <= high) {
             int mid = (low + high) >>> 1;
-            long[] r = ranges.get(mid);
 
-            if (value < r[0]) {
+            if (value < starts[mid]) {
                 high = mid - 1;
-            } else if (value > r[1]) {
+            } else if (value > ends[mid]) {
                 low = mid + 1;
             } else {
                 return true;
@@ -104,20 +114,15 @@ public class Cafeteria implements Solver {
      * Counts the number of individual values that fall within any of the input ranges.
      * </p>
      *
-     * @param input list of strings representing the problem input
+     * @param parsed parsed input produced by {@link #prepare(List)}
      * @return the count of values within ranges for the Silver problem
      */
     @Override
-    public long solveSilver(List<String> input) {
-        ParsedInput parsed = parseInput(input);
-        List<long[]> ranges = parsed.ranges;
-        List<Long> values = parsed.values;
-
-        List<long[]> merged = mergeRanges(ranges);
+    public long solveSilverPrepared(ParsedInput parsed) {
         long count = 0;
 
-        for (long v : values) {
-            if (isInRanges(merged, v)) {
+        for (long v : parsed.values) {
+            if (isInRanges(parsed, v)) {
                 count++;
             }
         }
@@ -131,20 +136,15 @@ public class Cafeteria implements Solver {
      * Computes the total number of integers covered by all ranges after merging.
      * </p>
      *
-     * @param input list of strings representing the problem input
+     * @param parsed parsed input produced by {@link #prepare(List)}
      * @return the total count of numbers in ranges for the Gold problem
      */
     @Override
-    public long solveGold(List<String> input) {
-        ParsedInput parsed = parseInput(input);
-        List<long[]> ranges = parsed.ranges;
-
-        List<long[]> merged = mergeRanges(ranges);
-
+    public long solveGoldPrepared(ParsedInput parsed) {
         long count = 0;
 
-        for (long[] range : merged) {
-            count += range[1] - range[0] + 1;
+        for (int i = 0; i < parsed.starts.length; i++) {
+            count += parsed.ends[i] - parsed.starts[i] + 1;
         }
 
         return count;
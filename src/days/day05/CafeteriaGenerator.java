@@ -0,0 +1,52 @@
+package days.day05;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input generator for Day 05: Cafeteria.
+ * <p>
+ * Produces {@value #BASE_RANGES} fresh-ID ranges per unit of scale, a blank line, and
+ * {@value #BASE_IDS} available IDs per unit of scale. Ranges are placed anywhere in
+ * {@code [1, }{@value #MAX_ID}{@code ]} and may overlap, as in the puzzle input.
+ * </p>
+ */
+public class CafeteriaGenerator implements InputGenerator {
+
+    /** Number of ranges at scale 1. */
+    private static final int BASE_RANGES = 180;
+
+    /** Number of available IDs at scale 1. */
+    private static final int BASE_IDS = 1000;
+
+    /** Largest generated ID. */
+    private static final long MAX_ID = 560_000_000_000_000L;
+
+    /** Largest width of a range. */
+    private static final long MAX_WIDTH = 20_000_000_000_000L;
+
+    /**
+     * Generates random ranges followed by random IDs.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return the ranges, a blank line, and one ID per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        List<String> lines = new ArrayList<>((BASE_RANGES + BASE_IDS) * scale + 1);
+        for (int i = 0; i < BASE_RANGES * scale; i++) {
+            long start = 1 + (long) (random.nextDouble() * (MAX_ID - MAX_WIDTH));
+            long end = start + (long) (random.nextDouble() * MAX_WIDTH);
+            lines.add(start + "-" + end);
+        }
+        lines.add("");
+        for (int i = 0; i < BASE_IDS * scale; i++) {
+            lines.add(Long.toString(1 + (long) (random.nextDouble() * MAX_ID)));
+        }
+        return lines;
+    }
+}
@@ -5,26 +5,32 @@ import java.util.List;
 /**
  * Helper class to store parsed input for the Cafeteria problem.
  * <p>
- * Contains two lists: one for ranges of values and one for individual values.
- * Used internally by the {@link Cafeteria} solver to separate ranges from single numbers.
+ * Contains the merged ranges of values, as parallel arrays of bounds, and the individual values.
+ * Produced by {@link Cafeteria#prepare(List)} and shared by both variants, so it must
+ * not be modified once built.
  * </p>
  */
 public class ParsedInput {
 
-    /** List of ranges, each represented as a long array [start, end]. */
-    List<long[]> ranges;
+    /** Inclusive start of each merged range, in ascending order. */
+    long[] starts;
 
-    /** List of individual values not included in ranges. */
-    List<Long> values;
+    /** Inclusive end of each merged range, matching {@link #starts}. */
+    long[] ends;
+
+    /** Individual values not included in ranges. */
+    long[] values;
 
     /**
      * Constructs a ParsedInput object with the given ranges and values.
      *
-     * @param ranges list of ranges, each as a long array [start, end]
-     * @param values list of individual values
+     * @param starts inclusive start of each merged range, ascending
+     * @param ends   inclusive end of each merged range
+     * @param values individual values
      */
-    ParsedInput(List<long[]> ranges, List<Long> values) {
-        this.ranges = ranges;
+    ParsedInput(long[] starts, long[] ends, long[] values) {
+        this.starts = starts;
+        this.ends = ends;
         this.values = values;
     }
 }
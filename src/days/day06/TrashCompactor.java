@@ -1,8 +1,8 @@
 package days.day06;
 
+import core.Cursor;
 import core.Solver;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -16,29 +16,22 @@ import java.util.List;
 public class TrashCompactor implements Solver {
 
     /**
-     * Applies the given operator ('+' or '*') to a list of numbers sequentially.
+     * Applies the given operator ('+' or '*') to an accumulated value and a new number.
      *
-     * @param numbers  list of numbers to operate on
-     * @param operator the operator character ('+' or '*')
-     * @return the result of applying the operator on all numbers
+     * @param accumulated result of the previous numbers
+     * @param number      the next number
+     * @param operator    the operator character ('+' or '*')
+     * @return the result of applying the operator
      */
-    private long applyOperator(List<Long> numbers, char operator) {
-        long temp = numbers.get(0);
-        for (int i = 1; i < numbers.size(); i++) {
-            if (operator == '+') {
-                temp += numbers.get(i);
-            } else {
-                temp *= numbers.get(i);
-            }
-        }
-        return temp;
+    private long applyOperator(long accumulated, long number, char operator) {
+        return (operator == '+') ? accumulated + number : accumulated * number;
     }
 
     /**
      * Solves the Silver variant of the Trash Compactor problem.
      * <p>
-     * Processes each column separately: collects all numbers from that column,
-     * applies the operator indicated at the bottom row, and sums the results.
+     * Processes each column separately: reads the next number of every row with a
+     * {@link Cursor}, applies the operator indicated at the bottom row, and sums the results.
      * </p>
      *
      * @param input list of strings representing the problem input
@@ -47,50 +40,37 @@ public class TrashCompactor implements Solver {
     @Override
     public long solveSilver(List<String> input) {
         long result = 0;
-        List<String[]> values = new ArrayList<>();
-        for (String line : input) {
-            values.add(line.trim().split("\\s+"));
+        int lines = input.size();
+        Cursor[] rows = new Cursor[lines - 1];
+        for (int j = 0; j < lines - 1; j++) {
+            rows[j] = new Cursor(input.get(j));
         }
-        int columns = values.get(0).length;
-        int lines = values.size();
+        Cursor operators = new Cursor(input.get(lines - 1));
 
-        for (int i = 0; i < columns; i++) {
-            String operatorStr = values.get(lines - 1)[i];
-            char operator = operatorStr.charAt(0);
+        while (operators.skipWhitespace().hasNext()) {
+            char operator = operators.next();
 
-            List<Long> numbers = new ArrayList<>();
-            for (int j = 0; j < lines - 1; j++) {
-                numbers.add(Long.parseLong(values.get(j)[i]));
+            long temp = rows[0].nextLong();
+            for (int j = 1; j < lines - 1; j++) {
+                temp = applyOperator(temp, rows[j].nextLong(), operator);
             }
 
-            result += applyOperator(numbers, operator);
+            result += temp;
         }
 
         return result;
     }
 
     /**
-     * Pads all input lines with spaces to ensure they have equal length.
+     * Returns the character of a line at a given column, treating the lines as if they
+     * were padded with spaces to equal length.
      *
-     * @param input list of input strings
-     * @return a new list of strings padded to equal length
+     * @param line   the input line
+     * @param column the column index
+     * @return the character at {@code column}, or ' ' past the end of the line
      */
-    private List<String> padLinesToEqualLength(List<String> input) {
-        int maxLength = input.stream()
-                .mapToInt(String::length)
-                .max()
-                .orElse(0);
-
-        List<String> paddedInput = new ArrayList<>();
-        for (String line : input) {
-            StringBuilder sb = new StringBuilder(line);
-            while (sb.length() < maxLength) {
-                sb.append(' ');
-            }
-            paddedInput.add(sb.toString());
-        }
-
-        return paddedInput;
+    private char charAt(String line, int column) {
+        return (column < line.length()) ? line.charAt(column) : ' ';
     }
 
     /**
@@ -106,28 +86,34 @@ public class TrashCompactor implements Solver {
      */
     @Override
     public long solveGold(List<String> input) {
-        input = padLinesToEqualLength(input);
-        int columns = input.get(0).length() - 1;
+        int columns = -1;
+        for (String line : input) columns = Math.max(columns, line.length() - 1);
         int lines = input.size();
+        String operators = input.get(lines - 1);
         long result = 0;
 
         while (columns >= 0) {
-            List<Long> numbers = new ArrayList<>();
+            int operatorColumn = columns;
+            while (operatorColumn > 0 && charAt(operators, operatorColumn) == ' ') operatorColumn--;
+            char operator = charAt(operators, operatorColumn);
+
+            long temp = 0;
+            boolean first = true;
             do {
-                StringBuilder numberBuilder = new StringBuilder();
+                long number = 0;
 
                 for (int row = 0; row < lines - 1; row++) {
-                    char c = input.get(row).charAt(columns);
+                    char c = charAt(input.get(row), columns);
                     if (c != ' ') {
-                        numberBuilder.append(c);
+                        number = number * 10 + (c - '0');
                     }
                 }
-                numbers.add(Long.parseLong(numberBuilder.toString()));
+                temp = first ? number : applyOperator(temp, number, operator);
+                first = false;
                 columns--;
-            } while (input.get(lines - 1).charAt(columns + 1) == ' ');
+            } while (charAt(operators, columns + 1) == ' ');
 
-            char operator = input.get(lines - 1).charAt(columns + 1);
-            result += applyOperator(numbers, operator);
+            result += temp;
 
             columns--;
         }
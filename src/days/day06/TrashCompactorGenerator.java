@@ -0,0 +1,60 @@
+package days.day06;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input generator for Day 06: Trash Compactor.
+ * <p>
+ * Produces {@value #BASE_PROBLEMS} problems per unit of scale, laid out side by side
+ * as in the puzzle: {@value #ROWS} rows of numbers of 1 to 4 digits, each problem left
+ * or right aligned within its own columns, followed by a row of '+' and '*' operators.
+ * Problems are separated by a blank column and at least one number of each problem
+ * spans its full width, so both the row-wise and column-wise readings are valid.
+ * </p>
+ */
+public class TrashCompactorGenerator implements InputGenerator {
+
+    /** Number of problems at scale 1. */
+    private static final int BASE_PROBLEMS = 1000;
+
+    /** Number of rows of numbers. */
+    private static final int ROWS = 4;
+
+    /**
+     * Generates a worksheet of random problems.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return the number rows followed by the operator row
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        StringBuilder[] rows = new StringBuilder[ROWS + 1];
+        for (int r = 0; r <= ROWS; r++) rows[r] = new StringBuilder();
+
+        for (int p = 0; p < BASE_PROBLEMS * scale; p++) {
+            if (p > 0) {
+                for (StringBuilder row : rows) row.append(' ');
+            }
+            int width = 1 + random.nextInt(4);
+            int full = random.nextInt(ROWS);
+            boolean left = random.nextBoolean();
+            for (int r = 0; r < ROWS; r++) {
+                int digits = (r == full) ? width : 1 + random.nextInt(width);
+                StringBuilder number = new StringBuilder();
+                for (int d = 0; d < digits; d++) number.append((char) ('1' + random.nextInt(9)));
+                String padding = " ".repeat(width - digits);
+                rows[r].append(left ? number + padding : padding + number);
+            }
+            rows[ROWS].append(random.nextBoolean() ? '+' : '*').append(" ".repeat(width - 1));
+        }
+
+        List<String> lines = new ArrayList<>(ROWS + 1);
+        for (StringBuilder row : rows) lines.add(row.toString());
+        return lines;
+    }
+}
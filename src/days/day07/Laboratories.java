@@ -1,9 +1,10 @@
 package days.day07;
 
+import core.Grid;
 import core.Solver;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Solver for Day 07: Laboratories problem.
@@ -12,34 +13,46 @@ import java.util.ArrayList;
  * Silver and Gold variants. The problem involves simulating beam paths through
  * a laboratory grid and counting splits or total possible paths.
  * </p>
+ * <p>
+ * The input is parsed into a {@link Grid}. Beams and path counts are tracked per row
+ * in arrays indexed like the grid cells, border columns included, so a beam split at
+ * either edge lands harmlessly on a border column instead of needing a bounds check.
+ * </p>
  */
 public class Laboratories implements Solver {
 
+    /** Cell holding a beam. */
+    private static final byte BEAM = '|';
+
+    /** Cell splitting a beam in two. */
+    private static final byte SPLITTER = '^';
+
+    /** Empty cell, also used for the border of the grid. */
+    private static final byte EMPTY = '.';
+
     /**
-     * Replaces characters at specified indexes in a string with the '|' character.
+     * Returns which cells of a row hold a beam.
      *
-     * @param input   the input string
-     * @param indexes list of indexes to replace with '|'
-     * @return a new string with specified characters replaced by '|'
+     * @param grid the laboratory grid
+     * @param row  the row to read
+     * @return {@code true} at every column holding a beam, indexed from the left border column
      */
-    private String replaceIndexesWithBar(String input, List<Integer> indexes) {
-        char[] chars = input.toCharArray();
-
-        for (int idx : indexes) {
-            if (idx >= 0 && idx < chars.length) {
-                chars[idx] = '|';
-            }
+    private boolean[] beamsOf(Grid grid, int row) {
+        boolean[] beams = new boolean[grid.stride()];
+        int offset = grid.index(row, -1);
+        for (int x = 1; x <= grid.width(); x++) {
+            beams[x] = grid.get(offset + x) == BEAM;
         }
-
-        return new String(chars);
+        return beams;
     }
 
     /**
      * Solves the Silver variant of the Laboratories problem.
      * <p>
      * Simulates beam propagation through the grid. Counts the number of beam splits
-     * when encountering a '^' in the path. Uses a simple propagation method marking
-     * paths with '|'.
+     * when encountering a '^' in the path. The beams of every other row are tracked in
+     * a boolean array instead of being written into the grid, so the input is only read
+     * and can be shared with a concurrent Gold solve.
      * </p>
      *
      * @param input list of strings representing the laboratory grid
@@ -47,34 +60,29 @@ public class Laboratories implements Solver {
      */
     @Override
     public long solveSilver(List<String> input) {
+        Grid grid = Grid.parse(input, EMPTY);
+        int width = grid.width();
         long beamSplits = 0;
-        int i = 2;
-        input.set(1, replaceIndexesWithBar(
-                input.get(1),
-                List.of(input.get(0).length() / 2)
-        ));
-
-        while (i + 1 < input.size()) {
-            String currentLine = input.get(i);
-            String previousLine = input.get(i - 1);
-            List<Integer> indexesToUpdate = new ArrayList<>();
-
-            for (int index = 0; index < currentLine.length(); index++) {
-                if (previousLine.charAt(index) == '|') {
-                    if (currentLine.charAt(index) == '^') {
+        boolean[] beams = beamsOf(grid, 1);
+        beams[input.get(0).length() / 2 + 1] = true;
+
+        for (int i = 2; i + 1 < grid.height(); i += 2) {
+            int offset = grid.index(i, -1);
+            boolean[] nextBeams = beamsOf(grid, i + 1);
+
+            for (int x = 1; x <= width; x++) {
+                if (beams[x]) {
+                    if (grid.get(offset + x) == SPLITTER) {
                         beamSplits++;
-                        indexesToUpdate.add(index - 1);
-                        indexesToUpdate.add(index + 1);
+                        nextBeams[x - 1] = true;
+                        nextBeams[x + 1] = true;
                     } else {
-                        indexesToUpdate.add(index);
+                        nextBeams[x] = true;
                     }
                 }
             }
 
-            input.set(i + 1,
-                    replaceIndexesWithBar(input.get(i + 1), indexesToUpdate)
-            );
-            i += 2;
+            beams = nextBeams;
         }
 
         return beamSplits;
@@ -85,7 +93,8 @@ public class Laboratories implements Solver {
      * <p>
      * Computes all possible beam paths through the grid using dynamic programming.
      * Each cell accumulates the number of ways a beam can reach it, considering
-     * movement rules for '.' and other characters.
+     * movement rules for '.' and other characters. Paths split onto a border column
+     * have left the grid and are dropped.
      * </p>
      *
      * @param input list of strings representing the laboratory grid
@@ -93,34 +102,38 @@ public class Laboratories implements Solver {
      */
     @Override
     public long solveGold(List<String> input) {
-        int rows = input.size();
-        int cols = input.get(0).length();
-        long[] counts = new long[cols];
-        counts[input.get(0).length() / 2] = 1;
+        Grid grid = Grid.parse(input, EMPTY);
+        int rows = grid.height();
+        int width = grid.width();
+        long[] counts = new long[grid.stride()];
+        long[] nextCounts = new long[grid.stride()];
+        counts[input.get(0).length() / 2 + 1] = 1;
 
         for (int r = 1; r < rows; r++) {
-            long[] nextCounts = new long[cols];
-            String line = input.get(r);
+            int offset = grid.index(r, -1);
 
-            for (int x = 0; x < cols; x++) {
+            for (int x = 1; x <= width; x++) {
                 long c = counts[x];
                 if (c == 0) continue;
 
-                char cell = line.charAt(x);
-
-                if (cell == '.') {
+                if (grid.get(offset + x) == EMPTY) {
                     nextCounts[x] += c;
                 } else {
-                    if (x - 1 >= 0) nextCounts[x - 1] += c;
-                    if (x + 1 < cols) nextCounts[x + 1] += c;
+                    nextCounts[x - 1] += c;
+                    nextCounts[x + 1] += c;
                 }
             }
 
+            long[] swap = counts;
             counts = nextCounts;
+            nextCounts = swap;
+            Arrays.fill(nextCounts, 0);
+            counts[0] = 0;
+            counts[width + 1] = 0;
         }
 
         long totalTimelines = 0;
-        for (long c : counts) totalTimelines += c;
+        for (int x = 1; x <= width; x++) totalTimelines += counts[x];
         return totalTimelines;
     }
 
@@ -0,0 +1,62 @@
+package days.day07;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input generator for Day 07: Laboratories.
+ * <p>
+ * Produces a manifold whose area is {@code scale} times the puzzle grid. The source
+ * 'S' sits in the middle of the first row, every other row is empty, and the
+ * remaining rows hold splitters ('^') with probability {@value #DENSITY}, never on
+ * the outer columns.
+ * </p>
+ * <p>
+ * The Gold timeline count grows exponentially with the height, so it overflows for
+ * large scales; the generated inputs are meant for timing, not for their answers.
+ * </p>
+ */
+public class LaboratoriesGenerator implements InputGenerator {
+
+    /** Width of the grid at scale 1. */
+    private static final int BASE_WIDTH = 141;
+
+    /** Height of the grid at scale 1. */
+    private static final int BASE_HEIGHT = 142;
+
+    /** Probability of a cell in a splitter row holding a splitter. */
+    private static final double DENSITY = 0.4;
+
+    /**
+     * Generates a random manifold.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return one grid row per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        double factor = Math.sqrt(scale);
+        int width = (int) Math.round(BASE_WIDTH * factor) | 1;
+        int height = (int) Math.round(BASE_HEIGHT * factor) & ~1;
+
+        List<String> lines = new ArrayList<>(height);
+        char[] row = new char[width];
+        for (int y = 0; y < height; y++) {
+            Arrays.fill(row, '.');
+            if (y == 0) {
+                row[width / 2] = 'S';
+            } else if (y % 2 == 0) {
+                for (int x = 1; x < width - 1; x++) {
+                    if (random.nextDouble() < DENSITY) row[x] = '^';
+                }
+            }
+            lines.add(new String(row));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,36 @@
+package days.day08;
+
+import java.util.List;
+
+/**
+ * Helper class to store parsed input for the Playground problem.
+ * <p>
+ * Contains the junction box positions and every pair of boxes sorted by distance.
+ * Produced by {@link Playground#prepare(List)} and shared by both variants, so it
+ * must not be modified once built.
+ * </p>
+ */
+public class ParsedInput {
+
+    /** Junction box positions in input order. */
+    Playground.Point[] points;
+
+    /** Squared distance of every pair of points, in ascending order. */
+    long[] distances;
+
+    /** Pairs matching {@link #distances}, each packed as {@code index1 << 32 | index2}. */
+    long[] pairs;
+
+    /**
+     * Constructs a ParsedInput object with the given points and sorted pairs.
+     *
+     * @param points    junction box positions
+     * @param distances squared distance of every pair, in ascending order
+     * @param pairs     packed point indexes of every pair, in the same order
+     */
+    ParsedInput(Playground.Point[] points, long[] distances, long[] pairs) {
+        this.points = points;
+        this.distances = distances;
+        this.pairs = pairs;
+    }
+}
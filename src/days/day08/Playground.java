@@ -1,24 +1,95 @@
 package days.day08;
 
-import core.Solver;
+import core.Cursor;
+import core.LowFootprint;
+import core.Phase;
+import core.PreparedSolver;
+import core.collections.IntIntMap;
+import core.collections.PrimitiveSort;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Solver for Day 08: Playground problem.
  * <p>
- * Implements the {@link core.Solver} interface, providing solutions for both
+ * Implements the {@link core.PreparedSolver} interface, providing solutions for both
  * Silver and Gold variants. The problem involves analyzing 3D points, computing
  * distances, and using a Disjoint Set Union (DSU) structure to group points
  * or connect components.
  * </p>
+ * <p>
+ * In {@link LowFootprint} mode, the sorted list of all n(n-1)/2 pairs is not built.
+ * Silver then keeps only the K closest pairs in a bounded heap, and Gold finds the
+ * last connection with Prim's algorithm over the implicit complete graph, both in
+ * O(n + K) memory at the cost of scanning the pairs again.
+ * </p>
  */
-public class Playground implements Solver {
+public class Playground implements PreparedSolver<ParsedInput> {
 
     /**
      * Represents a 3D point with coordinates x, y, z.
      */
-    private record Point(int x, int y, int z) {}
+    record Point(int x, int y, int z) {}
+
+    /** Number of closest pairs connected by the Silver variant. */
+    private static final int K = 1000; // Modify this value for the test case to 10
+
+    /** Largest number of pairs stored and sorted in memory, bounded by the maximum array length. */
+    private static final int MAX_PAIRS = Integer.MAX_VALUE - 8;
+
+    /** Whether the memory-lean strategies are used even outside {@link LowFootprint} mode. */
+    private final boolean lean;
+
+    /**
+     * Creates a solver selecting its strategies from the {@link LowFootprint} mode.
+     */
+    public Playground() {
+        this(false);
+    }
+
+    /**
+     * Creates a solver, optionally committed to its memory-lean strategies.
+     *
+     * @param lean {@code true} to never build the sorted list of pairs
+     */
+    public Playground(boolean lean) {
+        this.lean = lean;
+    }
+
+    /**
+     * Parses the points and computes the list of pairs sorted by distance.
+     * <p>
+     * The O(n²) pair generation and its sort are shared by both variants, so they
+     * are performed once here, unless {@link LowFootprint} mode is enabled, in which
+     * case only the points are kept.
+     * </p>
+     *
+     * @param input list of strings representing 3D points
+     * @return a {@link ParsedInput} with the points and their sorted pairs
+     * @throws IllegalArgumentException if there are more pairs than an array can hold
+     */
+    @Override
+    @SuppressWarnings("try")
+    public ParsedInput prepare(List<String> input) {
+        Point[] pts;
+        try (Phase ignored = Phase.start("Playground.parse")) {
+            pts = parsePoints(input);
+        }
+        if (lean || LowFootprint.isEnabled()) {
+            return new ParsedInput(pts, null, null);
+        }
+        int n = pts.length;
+        long pairCount = (long) n * (n - 1) / 2;
+        if (pairCount > MAX_PAIRS) {
+            throw new IllegalArgumentException(n + " points make " + pairCount
+                    + " pairs, too many to sort in memory; use the low-footprint mode instead");
+        }
+        long[] distances = new long[(int) pairCount];
+        long[] pairs = new long[distances.length];
+        computeSortedPairs(pts, distances, pairs);
+        return new ParsedInput(pts, distances, pairs);
+    }
 
     /**
      * Parses input strings into an array of {@link Point} objects.
@@ -29,14 +100,16 @@ public class Playground implements Solver {
     private Point[] parsePoints(List<String> input) {
         int n = input.size();
         Point[] pts = new Point[n];
+        Cursor cursor = new Cursor("");
 
         for (int i = 0; i < n; i++) {
-            String[] p = input.get(i).split(",");
-            pts[i] = new Point(
-                    Integer.parseInt(p[0]),
-                    Integer.parseInt(p[1]),
-                    Integer.parseInt(p[2])
-            );
+            cursor.reset(input.get(i));
+            int x = cursor.nextInt();
+            cursor.expect(',');
+            int y = cursor.nextInt();
+            cursor.expect(',');
+            int z = cursor.nextInt();
+            pts[i] = new Point(x, y, z);
         }
         return pts;
     }
@@ -44,26 +117,36 @@ public class Playground implements Solver {
     /**
      * Computes all unique pairs of points along with their squared distances,
      * sorted by distance.
+     * <p>
+     * Pairs are stored in two parallel primitive arrays rather than one {@code long[]}
+     * object per pair. Ties in distance are broken by the packed indexes, which keeps
+     * the pairs in generation order exactly as a stable sort would.
+     * </p>
      *
-     * @param pts array of points
-     * @return list of arrays [distanceSquared, index1, index2], sorted by distance
+     * @param pts       array of points
+     * @param distances receives the squared distance of every pair, sorted
+     * @param pairs     receives the packed indexes {@code i << 32 | j} of every pair
      */
-    private List<long[]> computeSortedPairs(Point[] pts) {
+    @SuppressWarnings("try")
+    private void computeSortedPairs(Point[] pts, long[] distances, long[] pairs) {
         int n = pts.length;
-        List<long[]> pairs = new ArrayList<>();
+        int k = 0;
 
-        for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                long dx = pts[i].x - pts[j].x;
-                long dy = pts[i].y - pts[j].y;
-                long dz = pts[i].z - pts[j].z;
-                long d2 = dx * dx + dy * dy + dz * dz;
-                pairs.add(new long[]{d2, i, j});
+        try (Phase ignored = Phase.start("Playground.pairs")) {
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    long dx = pts[i].x - pts[j].x;
+                    long dy = pts[i].y - pts[j].y;
+                    long dz = pts[i].z - pts[j].z;
+                    distances[k] = dx * dx + dy * dy + dz * dz;
+                    pairs[k++] = ((long) i << 32) | j;
+                }
             }
         }
 
-        pairs.sort(Comparator.comparingLong(a -> a[0]));
-        return pairs;
+        try (Phase ignored = Phase.start("Playground.sort")) {
+            PrimitiveSort.sortByKey(distances, pairs);
+        }
     }
 
     /**
@@ -74,38 +157,36 @@ public class Playground implements Solver {
      * the product of the three largest component sizes.
      * </p>
      *
-     * @param input list of strings representing 3D points
+     * @param parsed parsed input produced by {@link #prepare(List)}
      * @return the product of the sizes of the three largest connected components
      */
     @Override
-    public long solveSilver(List<String> input) {
-        Point[] pts = parsePoints(input);
-        List<long[]> pairs = computeSortedPairs(pts);
+    public long solveSilverPrepared(ParsedInput parsed) {
+        Point[] pts = parsed.points;
+        long[] pairs = (parsed.pairs != null) ? parsed.pairs : closestPairs(pts, K);
         int n = pts.length;
         DSU dsu = new DSU(n);
-        int K = 1000; // Modify this value for the test case to 10
         int used = 0;
         int idx = 0;
 
-        while (used < K && idx < pairs.size()) {
-            long[] p = pairs.get(idx);
-            dsu.union((int)p[1], (int)p[2]);
+        while (used < K && idx < pairs.length) {
+            long p = pairs[idx];
+            dsu.union((int)(p >>> 32), (int)p);
             used++;
             idx++;
         }
 
-        Map<Integer, Integer> comp = new HashMap<>();
+        IntIntMap comp = new IntIntMap();
         for (int i = 0; i < n; i++) {
-            int r = dsu.find(i);
-            comp.put(r, comp.getOrDefault(r, 0) + 1);
+            comp.addTo(dsu.find(i), 1);
         }
 
-        List<Integer> sizes = new ArrayList<>(comp.values());
-        sizes.sort(Collections.reverseOrder());
+        int[] sizes = comp.values();
+        PrimitiveSort.sortDescending(sizes);
 
-        long a = sizes.get(0);
-        long b = sizes.get(1);
-        long c = sizes.get(2);
+        long a = sizes[0];
+        long b = sizes[1];
+        long c = sizes[2];
 
         return a * b * c;
     }
@@ -118,20 +199,23 @@ public class Playground implements Solver {
      * last two points that connected the final components.
      * </p>
      *
-     * @param input list of strings representing 3D points
+     * @param parsed parsed input produced by {@link #prepare(List)}
      * @return the product of x-coordinates of the last connected points
      */
     @Override
-    public long solveGold(List<String> input) {
-        Point[] pts = parsePoints(input);
-        List<long[]> pairs = computeSortedPairs(pts);
+    public long solveGoldPrepared(ParsedInput parsed) {
+        Point[] pts = parsed.points;
+        if (parsed.pairs == null) {
+            return lastConnectionPrim(pts);
+        }
+        long[] pairs = parsed.pairs;
         int n = pts.length;
         DSU dsu = new DSU(n);
         int components = n;
 
-        for (long[] p : pairs) {
-            int a = (int)p[1];
-            int b = (int)p[2];
+        for (long p : pairs) {
+            int a = (int)(p >>> 32);
+            int b = (int)p;
 
             int ra = dsu.find(a);
             int rb = dsu.find(b);
@@ -149,4 +233,136 @@ public class Playground implements Solver {
         return 0;
     }
 
+    /**
+     * Computes the squared distance between two points.
+     *
+     * @param a first point
+     * @param b second point
+     * @return the squared Euclidean distance
+     */
+    private static long distance(Point a, Point b) {
+        long dx = a.x - b.x;
+        long dy = a.y - b.y;
+        long dz = a.z - b.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Tells whether pair {@code (d1, p1)} comes before pair {@code (d2, p2)} in the
+     * order of the sorted pair list: by distance, then by packed indexes.
+     *
+     * @param d1 squared distance of the first pair
+     * @param p1 packed indexes of the first pair
+     * @param d2 squared distance of the second pair
+     * @param p2 packed indexes of the second pair
+     * @return {@code true} if the first pair comes first
+     */
+    private static boolean before(long d1, long p1, long d2, long p2) {
+        return d1 < d2 || (d1 == d2 && p1 < p2);
+    }
+
+    /**
+     * Selects the {@code k} closest pairs without materializing all of them.
+     * <p>
+     * The pairs are scanned in generation order while a max-heap keeps the {@code k}
+     * best seen so far, in O(k) memory. Ties are broken as in the sorted pair list, so
+     * the same pairs are selected. They are returned in heap order, which does not
+     * matter to the union of their components.
+     * </p>
+     *
+     * @param pts array of points
+     * @param k   number of pairs to keep
+     * @return the packed indexes {@code i << 32 | j} of the selected pairs
+     */
+    private static long[] closestPairs(Point[] pts, int k) {
+        int n = pts.length;
+        int capacity = (int) Math.min(k, (long) n * (n - 1) / 2);
+        long[] heapDist = new long[capacity];
+        long[] heapPair = new long[capacity];
+        int size = 0;
+
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                long d = distance(pts[i], pts[j]);
+                long p = ((long) i << 32) | j;
+                if (size < capacity) {
+                    int c = size++;
+                    while (c > 0) {
+                        int parent = (c - 1) / 2;
+                        if (!before(heapDist[parent], heapPair[parent], d, p)) break;
+                        heapDist[c] = heapDist[parent];
+                        heapPair[c] = heapPair[parent];
+                        c = parent;
+                    }
+                    heapDist[c] = d;
+                    heapPair[c] = p;
+                } else if (capacity > 0 && before(d, p, heapDist[0], heapPair[0])) {
+                    int c = 0;
+                    while (true) {
+                        int child = 2 * c + 1;
+                        if (child >= size) break;
+                        if (child + 1 < size && before(heapDist[child], heapPair[child], heapDist[child + 1], heapPair[child + 1])) {
+                            child++;
+                        }
+                        if (!before(d, p, heapDist[child], heapPair[child])) break;
+                        heapDist[c] = heapDist[child];
+                        heapPair[c] = heapPair[child];
+                        c = child;
+                    }
+                    heapDist[c] = d;
+                    heapPair[c] = p;
+                }
+            }
+        }
+        return heapPair;
+    }
+
+    /**
+     * Finds the connection that joins the last two components, using Prim's algorithm.
+     * <p>
+     * Connecting pairs by increasing distance until one component remains builds the
+     * minimum spanning tree, and the last pair connected is its longest edge. With ties
+     * broken by packed indexes every edge weight is distinct, so the tree is unique and
+     * Prim's algorithm finds the same one in O(n²) time and O(n) memory.
+     * </p>
+     *
+     * @param pts array of points
+     * @return the product of x-coordinates of the last connected points, or 0 if fewer than two
+     */
+    private static long lastConnectionPrim(Point[] pts) {
+        int n = pts.length;
+        if (n < 2) return 0;
+        boolean[] inTree = new boolean[n];
+        long[] bestDist = new long[n];
+        long[] bestPair = new long[n];
+        Arrays.fill(bestDist, Long.MAX_VALUE);
+        Arrays.fill(bestPair, Long.MAX_VALUE);
+
+        long maxDist = -1;
+        long maxPair = -1;
+        int current = 0;
+        inTree[0] = true;
+        for (int added = 1; added < n; added++) {
+            int next = -1;
+            for (int v = 0; v < n; v++) {
+                if (inTree[v]) continue;
+                long d = distance(pts[current], pts[v]);
+                long p = (current < v) ? ((long) current << 32) | v : ((long) v << 32) | current;
+                if (before(d, p, bestDist[v], bestPair[v])) {
+                    bestDist[v] = d;
+                    bestPair[v] = p;
+                }
+                if (next < 0 || before(bestDist[v], bestPair[v], bestDist[next], bestPair[next])) {
+                    next = v;
+                }
+            }
+            inTree[next] = true;
+            if (before(maxDist, maxPair, bestDist[next], bestPair[next])) {
+                maxDist = bestDist[next];
+                maxPair = bestPair[next];
+            }
+            current = next;
+        }
+        return (long) pts[(int) (maxPair >>> 32)].x * pts[(int) maxPair].x;
+    }
 }
@@ -0,0 +1,41 @@
+package days.day08;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input generator for Day 08: Playground.
+ * <p>
+ * Produces {@value #BASE_POINTS} junction boxes per unit of scale, each one a line
+ * "x,y,z" with coordinates in {@code [0, }{@value #MAX_COORD}{@code )}. The number of
+ * pairs examined grows with the square of the scale.
+ * </p>
+ */
+public class PlaygroundGenerator implements InputGenerator {
+
+    /** Number of junction boxes at scale 1. */
+    private static final int BASE_POINTS = 1000;
+
+    /** Exclusive upper bound of each coordinate. */
+    private static final int MAX_COORD = 100_000;
+
+    /**
+     * Generates a list of random junction boxes.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return one junction box per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int n = BASE_POINTS * scale;
+        List<String> lines = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            lines.add(random.nextInt(MAX_COORD) + "," + random.nextInt(MAX_COORD) + "," + random.nextInt(MAX_COORD));
+        }
+        return lines;
+    }
+}
@@ -1,6 +1,7 @@
 package days.day09;
 
-import core.Solver;
+import core.Cursor;
+import core.PreparedSolver;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -8,18 +9,38 @@ import java.util.List;
 /**
  * Solver for Day 09: Movie Theater problem.
  * <p>
- * Implements the {@link core.Solver} interface, providing solutions for both
+ * Implements the {@link core.PreparedSolver} interface, providing solutions for both
  * Silver and Gold variants. The problem involves computing maximum rectangular
  * areas defined by points, and checking containment/intersection within
  * horizontal and vertical line constraints.
  * </p>
  */
-public class MovieTheater implements Solver {
+public class MovieTheater implements PreparedSolver<ParsedInput> {
 
     /**
      * Represents a 2D point with coordinates x and y.
      */
-    private record Point(long x, long y) {}
+    record Point(long x, long y) {}
+
+    /**
+     * Parses the points and splits the polygon they form into horizontal and vertical edges.
+     *
+     * @param input list of strings representing 2D points
+     * @return a {@link ParsedInput} with the points and the polygon edges
+     */
+    @Override
+    public ParsedInput prepare(List<String> input) {
+        Point[] pts = parsePoints(input);
+        List<Line> hLines = new ArrayList<>();
+        List<Line> vLines = new ArrayList<>();
+
+        for (Line l : buildLines(pts)) {
+            if (l.dy == 0) hLines.add(l);
+            else if (l.dx == 0) vLines.add(l);
+        }
+
+        return new ParsedInput(pts, hLines, vLines);
+    }
 
     /**
      * Parses input strings into an array of {@link Point} objects.
@@ -30,13 +51,13 @@ public class MovieTheater implements Solver {
     private Point[] parsePoints(List<String> input) {
         int n = input.size();
         Point[] pts = new Point[n];
+        Cursor cursor = new Cursor("");
 
         for (int i = 0; i < n; i++) {
-            String[] p = input.get(i).split(",");
-            pts[i] = new Point(
-                    Long.parseLong(p[0]),
-                    Long.parseLong(p[1])
-            );
+            cursor.reset(input.get(i));
+            long x = cursor.nextLong();
+            cursor.expect(',');
+            pts[i] = new Point(x, cursor.nextLong());
         }
         return pts;
     }
@@ -63,12 +84,12 @@ public class MovieTheater implements Solver {
      * maximum area among them.
      * </p>
      *
-     * @param input list of strings representing 2D points
+     * @param parsed parsed input produced by {@link #prepare(List)}
      * @return the largest rectangular area
      */
     @Override
-    public long solveSilver(List<String> input) {
-        Point[] pts = parsePoints(input);
+    public long solveSilverPrepared(ParsedInput parsed) {
+        Point[] pts = parsed.points;
         long area = 0;
 
         for (int i = 0; i < pts.length; i++) {
@@ -158,22 +179,15 @@ public class MovieTheater implements Solver {
      * without intersecting any polygon edges.
      * </p>
      *
-     * @param input list of strings representing 2D points
+     * @param parsed parsed input produced by {@link #prepare(List)}
      * @return the area of the largest rectangle
      */
     @Override
-    public long solveGold(List<String> input) {
-        Point[] pts = parsePoints(input);
+    public long solveGoldPrepared(ParsedInput parsed) {
+        Point[] pts = parsed.points;
         int n = pts.length;
-        List<Line> lines = buildLines(pts);
-
-        List<Line> hLines = new ArrayList<>();
-        List<Line> vLines = new ArrayList<>();
-
-        for (Line l : lines) {
-            if (l.dy == 0) hLines.add(l);
-            else if (l.dx == 0) vLines.add(l);
-        }
+        List<Line> hLines = parsed.hLines;
+        List<Line> vLines = parsed.vLines;
 
         long best = 0;
 
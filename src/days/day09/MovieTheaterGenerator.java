@@ -0,0 +1,68 @@
+package days.day09;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input generator for Day 09: Movie Theater.
+ * <p>
+ * Produces a simple rectilinear polygon of {@value #BASE_VERTICES} red tiles per unit
+ * of scale, listed in order so that consecutive tiles share a row or a column. The
+ * polygon is a random skyline: an upper chain running left to right above the middle
+ * row and a lower chain running back below it, over the same strictly increasing
+ * columns, which guarantees that the boundary never crosses itself.
+ * </p>
+ */
+public class MovieTheaterGenerator implements InputGenerator {
+
+    /** Number of vertices at scale 1. */
+    private static final int BASE_VERTICES = 496;
+
+    /** Height of the area covered by the polygon. */
+    private static final int HEIGHT = 100_000;
+
+    /** Approximate width of the area covered by the polygon. */
+    private static final int WIDTH = 100_000;
+
+    /**
+     * Generates the vertices of a random rectilinear polygon.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return one vertex "x,y" per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int k = BASE_VERTICES * scale / 4;
+        int maxStep = Math.max(1, 2 * WIDTH / k);
+
+        long[] xs = new long[k + 1];
+        for (int i = 1; i <= k; i++) xs[i] = xs[i - 1] + 1 + random.nextInt(maxStep);
+
+        int half = HEIGHT / 2;
+        long[] top = new long[k];
+        long[] bottom = new long[k];
+        for (int i = 0; i < k; i++) {
+            do {
+                top[i] = half + 1 + random.nextInt(half);
+            } while (i > 0 && top[i] == top[i - 1]);
+            do {
+                bottom[i] = random.nextInt(half);
+            } while (i > 0 && bottom[i] == bottom[i - 1]);
+        }
+
+        List<String> lines = new ArrayList<>(4 * k);
+        for (int i = 0; i < k; i++) {
+            lines.add(xs[i] + "," + top[i]);
+            lines.add(xs[i + 1] + "," + top[i]);
+        }
+        for (int i = k - 1; i >= 0; i--) {
+            lines.add(xs[i + 1] + "," + bottom[i]);
+            lines.add(xs[i] + "," + bottom[i]);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,36 @@
+package days.day09;
+
+import java.util.List;
+
+/**
+ * Helper class to store parsed input for the Movie Theater problem.
+ * <p>
+ * Contains the red tile positions and the horizontal and vertical edges of the
+ * polygon they form. Produced by {@link MovieTheater#prepare(List)} and shared by
+ * both variants, so it must not be modified once built.
+ * </p>
+ */
+public class ParsedInput {
+
+    /** Polygon vertices in input order. */
+    MovieTheater.Point[] points;
+
+    /** Horizontal edges of the polygon. */
+    List<Line> hLines;
+
+    /** Vertical edges of the polygon. */
+    List<Line> vLines;
+
+    /**
+     * Constructs a ParsedInput object with the given points and polygon edges.
+     *
+     * @param points polygon vertices
+     * @param hLines horizontal edges of the polygon
+     * @param vLines vertical edges of the polygon
+     */
+    ParsedInput(MovieTheater.Point[] points, List<Line> hLines, List<Line> vLines) {
+        this.points = points;
+        this.hLines = hLines;
+        this.vLines = vLines;
+    }
+}
@@ -1,10 +1,13 @@
 package days.day10;
 
-import core.Solver;
+import core.Cursor;
+import core.ParallelReduce;
+import core.Phase;
+import core.PreparedSolver;
+import core.StreamingSolver;
+import core.collections.IntList;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 // Must import into the project Ojango 56.1.1
 import org.ojalgo.optimisation.ExpressionsBasedModel;
@@ -15,78 +18,182 @@ import org.ojalgo.optimisation.Optimisation;
 /**
  * Solver for Day 10: Factory problem.
  * <p>
- * Implements the {@link core.Solver} interface, providing solutions for both
+ * Implements the {@link core.PreparedSolver} interface, providing solutions for both
  * Silver and Gold problems. The problem involves optimizing machine operations:
  * determining minimal button presses to achieve target lights configuration
  * (Silver) or target joltage settings (Gold).
  * </p>
+ * <p>
+ * Machines are solved independently, so it also implements {@link core.StreamingSolver}:
+ * each line is parsed, solved and discarded before the next one is read.
+ * </p>
+ * <p>
+ * For the same reason, prepared machines are solved in parallel chunks through
+ * {@link ParallelReduce}. An ILP is expensive enough to be a chunk on its own, while
+ * the light configurations are grouped by {@value #MIN_LIGHTS_CHUNK}.
+ * </p>
  */
-public class Factory implements Solver {
+public class Factory implements PreparedSolver<List<Machine>>, StreamingSolver {
+
+    /** Smallest number of machines worth a parallel chunk when solving their lights. */
+    private static final int MIN_LIGHTS_CHUNK = 64;
+
+    /** Whether large inputs are split into chunks solved in parallel. */
+    private final boolean parallel;
+
+    /**
+     * Creates a solver splitting large inputs into parallel chunks.
+     */
+    public Factory() {
+        this(true);
+    }
+
+    /**
+     * Creates a solver, optionally restricted to its sequential loop.
+     * <p>
+     * The sequential solver is the reference the parallel one is verified against.
+     * </p>
+     *
+     * @param parallel {@code false} to always solve on the calling thread
+     */
+    public Factory(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Parses every input line into a {@link Machine}.
+     *
+     * @param input list of strings, each describing a machine's lights, buttons and joltages
+     * @return the parsed machines in input order
+     */
+    @Override
+    public List<Machine> prepare(List<String> input) {
+        List<Machine> machines = new ArrayList<>(input.size());
+        Cursor cursor = new Cursor("");
+        for (String line : input) machines.add(parseMachine(cursor.reset(line)));
+        return machines;
+    }
 
     /**
      * Solves the Silver variant of the Factory problem.
      * <p>
-     * Iterates through each input line and computes the minimum number of button presses
+     * Iterates through each machine and computes the minimum number of button presses
      * to achieve the target light configuration.
      * </p>
      *
-     * @param input list of strings, each describing a machine's lights and buttons
+     * @param machines parsed machines produced by {@link #prepare(List)}
      * @return the sum of minimal button presses across all machines
      */
     @Override
-    public long solveSilver(List<String> input) {
-        long sum = 0;
-        for (String line : input) sum += solveMachineLights(line);
-        return sum;
+    public long solveSilverPrepared(List<Machine> machines) {
+        ParallelReduce.ChunkSum chunk = (from, to) -> {
+            long sum = 0;
+            for (Machine machine : machines.subList(from, to)) sum += solveMachineLights(machine);
+            return sum;
+        };
+        return parallel ? ParallelReduce.sum(machines.size(), MIN_LIGHTS_CHUNK, chunk) : chunk.sum(0, machines.size());
     }
 
     /**
      * Solves the Gold variant of the Factory problem.
      * <p>
-     * Iterates through each input line and computes the minimum number of button presses
+     * Iterates through each machine and computes the minimum number of button presses
      * to achieve the target joltage configuration using integer linear programming.
      * </p>
      *
-     * @param input list of strings, each describing a machine's buttons and target joltages
+     * @param machines parsed machines produced by {@link #prepare(List)}
+     * @return the sum of minimal button presses across all machines
+     */
+    @Override
+    public long solveGoldPrepared(List<Machine> machines) {
+        ParallelReduce.ChunkSum chunk = (from, to) -> {
+            long sum = 0;
+            for (Machine machine : machines.subList(from, to)) sum += solveMachineJoltage(machine);
+            return sum;
+        };
+        return parallel ? ParallelReduce.sum(machines.size(), 1, chunk) : chunk.sum(0, machines.size());
+    }
+
+    /**
+     * Solves the Silver problem while reading the machines one at a time.
+     *
+     * @param lines iterator over the machine descriptions
      * @return the sum of minimal button presses across all machines
      */
     @Override
-    public long solveGold(List<String> input) {
+    public long solveSilverStreaming(Iterator<String> lines) {
         long sum = 0;
-        for (String line : input) sum += solveMachineJoltage(line);
+        Cursor cursor = new Cursor("");
+        while (lines.hasNext()) sum += solveMachineLights(parseMachine(cursor.reset(lines.next())));
         return sum;
     }
 
     /**
-     * Solves the Gold variant for a single machine, computing the minimal button presses
-     * to reach the target joltage.
+     * Solves the Gold problem while reading the machines one at a time.
      *
-     * @param line input string describing a machine's buttons and target joltages
-     * @return minimal number of button presses to achieve the target configuration
+     * @param lines iterator over the machine descriptions
+     * @return the sum of minimal button presses across all machines
      */
-    private long solveMachineJoltage(String line) {
-        int cb = line.indexOf('{');
-        int ce = line.indexOf('}');
-        String[] ts = line.substring(cb + 1, ce).split(",");
-        int n = ts.length;
-        long[] target = new long[n];
-        for (int i = 0; i < n; i++) target[i] = Long.parseLong(ts[i].trim());
+    @Override
+    public long solveGoldStreaming(Iterator<String> lines) {
+        long sum = 0;
+        Cursor cursor = new Cursor("");
+        while (lines.hasNext()) sum += solveMachineJoltage(parseMachine(cursor.reset(lines.next())));
+        return sum;
+    }
+
+    /**
+     * Parses a single machine description.
+     * <p>
+     * The light pattern is read between '[' and ']', each button between '(' and ')',
+     * and the joltage targets between '{' and '}'. A missing joltage section yields
+     * an empty target.
+     * </p>
+     *
+     * @param cursor cursor positioned at the start of the line describing a machine
+     * @return the parsed {@link Machine}
+     */
+    private Machine parseMachine(Cursor cursor) {
+        cursor.skipTo('[');
+        cursor.expect('[');
+        int lb = cursor.position();
+        cursor.skipTo(']');
+        int[] lights = new int[cursor.position() - lb];
+        cursor.seek(lb);
+        for (int i = 0; i < lights.length; ++i) {
+            lights[i] = (cursor.next() == '#') ? 1 : 0;
+        }
+        cursor.expect(']');
 
+        int[] scratch = new int[2 * lights.length + 2];
         List<int[]> buttons = new ArrayList<>();
-        Matcher m = Pattern.compile("\\(([^)]*)\\)").matcher(line);
-        while (m.find()) {
-            String s = m.group(1).trim();
-            if (s.isEmpty()) {
-                buttons.add(new int[0]);
-            } else {
-                String[] parts = s.split(",");
-                int[] arr = new int[parts.length];
-                for (int i = 0; i < parts.length; i++) {
-                    arr[i] = Integer.parseInt(parts[i].trim());
-                }
-                buttons.add(arr);
-            }
+        while (cursor.skipWhitespace().peek() == '(') {
+            int n = cursor.nextIntList('(', ')', scratch);
+            buttons.add(Arrays.copyOf(scratch, n));
+        }
+
+        long[] target = new long[0];
+        if (cursor.peek() == '{') {
+            int n = cursor.nextIntList('{', '}', scratch);
+            target = new long[n];
+            for (int i = 0; i < n; i++) target[i] = scratch[i];
         }
+
+        return new Machine(lights, buttons, target);
+    }
+
+    /**
+     * Solves the Gold variant for a single machine, computing the minimal button presses
+     * to reach the target joltage.
+     *
+     * @param machine parsed machine with its buttons and target joltages
+     * @return minimal number of button presses to achieve the target configuration
+     */
+    @SuppressWarnings("try")
+    private long solveMachineJoltage(Machine machine) {
+        long[] target = machine.target;
+        int n = target.length;
+        List<int[]> buttons = machine.buttons;
         int mcols = buttons.size();
 
         ExpressionsBasedModel model = new ExpressionsBasedModel();
@@ -111,7 +218,10 @@ public class Factory implements Solver {
         }
         obj.weight(1.0);
 
-        Optimisation.Result res = model.minimise();
+        Optimisation.Result res;
+        try (Phase ignored = Phase.start("Factory.ilp")) {
+            res = model.minimise();
+        }
         if (!res.getState().isOptimal()) return -1L;
 
         long totalPresses = 0;
@@ -127,42 +237,16 @@ public class Factory implements Solver {
      * Solves the Silver variant for a single machine, computing the minimal number of button presses
      * to reach the target lights configuration.
      *
-     * @param line input string describing a machine's lights and button effects
+     * @param machine parsed machine with its lights and button effects
      * @return minimal number of button presses
      */
-    private int solveMachineLights(String line) {
-        int lb = line.indexOf('[');
-        int rb = line.indexOf(']');
-        String lights = line.substring(lb + 1, rb);
-        int n = lights.length();
-
-        int cb = line.indexOf('{');
-        String buttonsPart = (cb >= 0) ? line.substring(rb + 1, cb) : line.substring(rb + 1);
-        List<int[]> buttons = new ArrayList<>();
-        int idx = 0;
-        while (true) {
-            int p1 = buttonsPart.indexOf('(', idx);
-            if (p1 < 0) break;
-            int p2 = buttonsPart.indexOf(')', p1);
-            if (p2 < 0) break;
-
-            String inside = buttonsPart.substring(p1 + 1, p2).trim();
-            String[] parts = inside.split(",");
-            int[] arr = new int[parts.length];
-            for (int i = 0; i < parts.length; ++i) {
-                arr[i] = Integer.parseInt(parts[i].trim());
-            }
-
-            buttons.add(arr);
-            idx = p2 + 1;
-        }
-
+    @SuppressWarnings("try")
+    private int solveMachineLights(Machine machine) {
+        int n = machine.lights.length;
+        List<int[]> buttons = machine.buttons;
         int m = buttons.size();
         int[][] A = new int[n][m];
-        int[] b = new int[n];
-        for (int i = 0; i < n; ++i) {
-            b[i] = (lights.charAt(i) == '#') ? 1 : 0;
-        }
+        int[] b = Arrays.copyOf(machine.lights, n);
         for (int j = 0; j < m; ++j) {
             for (int pos : buttons.get(j)) {
                 if (pos >= 0 && pos < n) {
@@ -175,30 +259,32 @@ public class Factory implements Solver {
         for (int i = 0; i < n; ++i) M[i] = Arrays.copyOf(A[i], m);
         int[] rhs = Arrays.copyOf(b, n);
 
-        int row = 0;
         int[] pivotColForRow = new int[n];
         Arrays.fill(pivotColForRow, -1);
 
-        for (int col = 0; col < m && row < n; ++col) {
-            int sel = -1;
-            for (int r = row; r < n; ++r) {
-                if (M[r][col] == 1) { sel = r; break; }
-            }
-            if (sel == -1) continue;
-            if (sel != row) {
-                int[] tmp = M[sel]; M[sel] = M[row]; M[row] = tmp;
-                int t = rhs[sel]; rhs[sel] = rhs[row]; rhs[row] = t;
-            }
-            pivotColForRow[row] = col;
-            for (int r = 0; r < n; ++r) {
-                if (r != row && M[r][col] == 1) {
-                    for (int c = col; c < m; ++c) {
-                        M[r][c] ^= M[row][c];
+        try (Phase ignored = Phase.start("Factory.gaussianElimination")) {
+            int row = 0;
+            for (int col = 0; col < m && row < n; ++col) {
+                int sel = -1;
+                for (int r = row; r < n; ++r) {
+                    if (M[r][col] == 1) { sel = r; break; }
+                }
+                if (sel == -1) continue;
+                if (sel != row) {
+                    int[] tmp = M[sel]; M[sel] = M[row]; M[row] = tmp;
+                    int t = rhs[sel]; rhs[sel] = rhs[row]; rhs[row] = t;
+                }
+                pivotColForRow[row] = col;
+                for (int r = 0; r < n; ++r) {
+                    if (r != row && M[r][col] == 1) {
+                        for (int c = col; c < m; ++c) {
+                            M[r][c] ^= M[row][c];
+                        }
+                        rhs[r] ^= rhs[row];
                     }
-                    rhs[r] ^= rhs[row];
                 }
+                row++;
             }
-            row++;
         }
 
         int[] particular = new int[m];
@@ -210,7 +296,7 @@ public class Factory implements Solver {
             }
         }
 
-        List<Integer> freeCols = new ArrayList<>();
+        IntList freeCols = new IntList();
         boolean[] isPivotCol = new boolean[m];
         for (int r = 0; r < n; ++r) {
             if (pivotColForRow[r] != -1) isPivotCol[pivotColForRow[r]] = true;
@@ -231,22 +317,25 @@ public class Factory implements Solver {
         }
 
         int best = Integer.MAX_VALUE;
-        int combos = 1 << k;
-        for (int mask = 0; mask < combos; ++mask) {
-            int weight = 0;
-            int[] x = Arrays.copyOf(particular, m);
-            int mm = mask;
-            int bi = 0;
-            while (mm != 0) {
-                if ((mm & 1) != 0) {
-                    int[] bv = basis[bi];
-                    for (int c = 0; c < m; ++c) x[c] ^= bv[c];
+        try (Phase ignored = Phase.start("Factory.nullSpaceEnumeration")) {
+            int combos = 1 << k;
+            int[] x = new int[m];
+            for (int mask = 0; mask < combos; ++mask) {
+                int weight = 0;
+                System.arraycopy(particular, 0, x, 0, m);
+                int mm = mask;
+                int bi = 0;
+                while (mm != 0) {
+                    if ((mm & 1) != 0) {
+                        int[] bv = basis[bi];
+                        for (int c = 0; c < m; ++c) x[c] ^= bv[c];
+                    }
+                    bi++;
+                    mm >>>= 1;
                 }
-                bi++;
-                mm >>>= 1;
+                for (int c = 0; c < m; ++c) if (x[c] == 1) weight++;
+                if (weight < best) best = weight;
             }
-            for (int c = 0; c < m; ++c) if (x[c] == 1) weight++;
-            if (weight < best) best = weight;
         }
 
         return best;
@@ -0,0 +1,77 @@
+package days.day10;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * Input generator for Day 10: Factory.
+ * <p>
+ * Produces {@value #BASE_MACHINES} machines per unit of scale, each with 4 to 10
+ * lights and 3 to 13 buttons wiring random subsets of them. The light diagram is the
+ * effect of pressing a random subset of the buttons once, and the joltage targets are
+ * the effect of pressing each button a random number of times, so every machine has
+ * a solution for both parts.
+ * </p>
+ */
+public class FactoryGenerator implements InputGenerator {
+
+    /** Number of machines at scale 1. */
+    private static final int BASE_MACHINES = 170;
+
+    /** Largest number of presses of a single button when building joltage targets. */
+    private static final int MAX_PRESSES = 20;
+
+    /**
+     * Generates a list of random, solvable machines.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return one machine per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int n = BASE_MACHINES * scale;
+        List<String> lines = new ArrayList<>(n);
+        for (int m = 0; m < n; m++) {
+            int lightCount = 4 + random.nextInt(7);
+            int buttonCount = 3 + random.nextInt(11);
+
+            boolean[] lights = new boolean[lightCount];
+            long[] joltage = new long[lightCount];
+            StringBuilder line = new StringBuilder();
+            StringBuilder buttons = new StringBuilder();
+
+            for (int b = 0; b < buttonCount; b++) {
+                StringJoiner wiring = new StringJoiner(",", "(", ")");
+                List<Integer> indices = new ArrayList<>();
+                for (int i = 0; i < lightCount; i++) {
+                    if (random.nextInt(3) == 0) indices.add(i);
+                }
+                if (indices.isEmpty()) indices.add(random.nextInt(lightCount));
+
+                boolean toggled = random.nextBoolean();
+                int presses = random.nextInt(MAX_PRESSES + 1);
+                for (int i : indices) {
+                    wiring.add(Integer.toString(i));
+                    if (toggled) lights[i] = !lights[i];
+                    joltage[i] += presses;
+                }
+                buttons.append(' ').append(wiring);
+            }
+
+            line.append('[');
+            for (boolean on : lights) line.append(on ? '#' : '.');
+            line.append(']').append(buttons).append(" {");
+            for (int i = 0; i < lightCount; i++) {
+                if (i > 0) line.append(',');
+                line.append(joltage[i]);
+            }
+            lines.add(line.append('}').toString());
+        }
+        return lines;
+    }
+}
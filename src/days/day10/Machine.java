@@ -0,0 +1,36 @@
+package days.day10;
+
+import java.util.List;
+
+/**
+ * Helper class to store a parsed machine description for the Factory problem.
+ * <p>
+ * Contains the target light pattern, the wiring of each button and the target
+ * joltage levels. Produced by {@link Factory#prepare(List)} and shared by both
+ * variants, so it must not be modified once built.
+ * </p>
+ */
+public class Machine {
+
+    /** Target light pattern, one entry per light: 1 if it must be on ('#'), 0 otherwise. */
+    int[] lights;
+
+    /** Indexes of the lights (or counters) toggled by each button. */
+    List<int[]> buttons;
+
+    /** Target joltage level of each counter. */
+    long[] target;
+
+    /**
+     * Constructs a Machine object with the given lights, buttons and joltage targets.
+     *
+     * @param lights  target light pattern
+     * @param buttons indexes affected by each button
+     * @param target  target joltage levels
+     */
+    Machine(int[] lights, List<int[]> buttons, long[] target) {
+        this.lights = lights;
+        this.buttons = buttons;
+        this.target = target;
+    }
+}
@@ -1,34 +1,36 @@
 package days.day11;
 
-import core.Solver;
+import core.Cursor;
+import core.PreparedSolver;
+import core.SolveContext;
+import core.collections.LongLongMap;
 
 import java.util.*;
 
 /**
  * Solver for Day 11: Reactor problem.
  * <p>
- * Implements the {@link core.Solver} interface, providing solutions for both Silver and Gold challenges.
+ * Implements the {@link core.PreparedSolver} interface, providing solutions for both Silver and Gold challenges.
  * The problem involves navigating a directed graph of reactor modules:
  * - Silver: Count all paths from the starting node "you" to "out" without revisiting nodes.
  * - Gold: Count all paths from "svr" to "out" that pass through both "fft" and "dac" modules, using memoization for efficiency.
  * </p>
  */
-public class Reactor implements Solver {
+public class Reactor implements PreparedSolver<Map<String, List<String>>> {
 
     /**
      * Solves the Silver variant of the Reactor problem.
      * <p>
-     * Parses the input into a directed graph and counts all distinct paths
-     * from the starting node "you" to the node "out" using DFS.
+     * Counts all distinct paths from the starting node "you" to the node "out"
+     * in the parsed graph using DFS.
      * </p>
      *
-     * @param input list of strings, each representing a node and its outgoing edges in the format "node: neighbor1 neighbor2 ..."
+     * @param graph adjacency list of the reactor graph produced by {@link #prepare(List)}
      * @return total number of distinct paths from "you" to "out"
      */
     @Override
-    public long solveSilver(List<String> input) {
-        Map<String, List<String>> graph = parseInput(input);
-        return dfsCount("you", graph, new HashSet<>());
+    public long solveSilverPrepared(Map<String, List<String>> graph) {
+        return dfsCount("you", graph, new HashSet<>(), SolveContext.current().ticker());
     }
 
     // Must consider that test input for silver problem and gold problem are different
@@ -39,14 +41,12 @@ public class Reactor implements Solver {
      * Uses memoization to avoid recalculating paths for repeated states.
      * </p>
      *
-     * @param input list of strings representing the reactor graph, similar format to Silver
+     * @param graph adjacency list of the reactor graph produced by {@link #prepare(List)}
      * @return number of valid paths from "svr" to "out" visiting both "fft" and "dac"
      */
     @Override
-    public long solveGold(List<String> input) {
-        Map<String, List<String>> graph = parseInput(input);
-        Map<String, Long> memo = new HashMap<>();
-        return countSpecial("svr", graph, false, false, memo);
+    public long solveGoldPrepared(Map<String, List<String>> graph) {
+        return countSpecial("svr", graph, false, false, new HashMap<>(), new LongLongMap());
     }
 
     /**
@@ -55,21 +55,21 @@ public class Reactor implements Solver {
      * @param input list of strings describing edges in the format "node: neighbor1 neighbor2 ..."
      * @return map representing the adjacency list of the graph
      */
-    private Map<String, List<String>> parseInput(List<String> input) {
+    @Override
+    public Map<String, List<String>> prepare(List<String> input) {
         Map<String, List<String>> graph = new HashMap<>();
+        Cursor cursor = new Cursor("");
         for (String line : input) {
-            if (line == null || line.trim().isEmpty()) continue;
+            if (line == null) continue;
+            cursor.reset(line).skipWhitespace();
+            if (!cursor.hasNext()) continue;
 
-            String[] parts = line.split(":", 2);
-            String node = parts[0].trim();
+            String node = cursor.nextWord(':');
             List<String> outs = new ArrayList<>();
 
-            if (parts.length > 1) {
-                String rhs = parts[1].trim();
-                if (!rhs.isEmpty()) {
-                    for (String t : rhs.split("\\s+")) {
-                        if (!t.isEmpty()) outs.add(t.trim());
-                    }
+            if (cursor.skipWhitespace().skip(':')) {
+                while (cursor.skipWhitespace().hasNext()) {
+                    outs.add(cursor.nextWord());
                 }
             }
             graph.put(node, outs);
@@ -84,16 +84,18 @@ public class Reactor implements Solver {
      * @param node    current node
      * @param graph   adjacency list of the graph
      * @param visited set of already visited nodes
+     * @param ticker  ticker of the solve, polled on every visit, since the number of paths may be exponential
      * @return number of paths from current node to "out"
      */
-    private long dfsCount(String node, Map<String, List<String>> graph, Set<String> visited) {
+    private long dfsCount(String node, Map<String, List<String>> graph, Set<String> visited, SolveContext.Ticker ticker) {
+        ticker.tick();
         if (node.equals("out")) return 1L;
         if (visited.contains(node)) return 0L;
 
         visited.add(node);
         long total = 0;
         for (String nb : graph.getOrDefault(node, Collections.emptyList())) {
-            total += dfsCount(nb, graph, visited);
+            total += dfsCount(nb, graph, visited, ticker);
         }
         visited.remove(node);
         return total;
@@ -107,15 +109,23 @@ public class Reactor implements Solver {
      * @param graph   adjacency list
      * @param hasFft  whether "fft" has been visited in the current path
      * @param hasDac  whether "dac" has been visited in the current path
-     * @param memo    memoization map storing previously computed results for states
+     * @param ids     index assigned to each node reached so far
+     * @param memo    memoization map from packed states {@code id << 2 | fft << 1 | dac}
+     *                to previously computed results
      * @return number of valid paths from current node to "out" visiting both "fft" and "dac"
      */
-    private long countSpecial(String node, Map<String, List<String>> graph, boolean hasFft, boolean hasDac, Map<String, Long> memo) {
+    private long countSpecial(String node, Map<String, List<String>> graph, boolean hasFft, boolean hasDac,
+                              Map<String, Integer> ids, LongLongMap memo) {
         boolean newFft = hasFft || node.equals("fft");
         boolean newDac = hasDac || node.equals("dac");
 
-        String key = node + "|" + newFft + "|" + newDac;
-        if (memo.containsKey(key)) return memo.get(key);
+        Integer id = ids.get(node);
+        if (id == null) {
+            id = ids.size();
+            ids.put(node, id);
+        }
+        long key = ((long) id << 2) | (newFft ? 2 : 0) | (newDac ? 1 : 0);
+        if (memo.containsKey(key)) return memo.get(key, 0);
 
         if (node.equals("out")) {
             long result = (newFft && newDac) ? 1L : 0L;
@@ -131,7 +141,7 @@ public class Reactor implements Solver {
 
         long total = 0;
         for (String nb : neighbors) {
-            total += countSpecial(nb, graph, newFft, newDac, memo);
+            total += countSpecial(nb, graph, newFft, newDac, ids, memo);
         }
 
         memo.put(key, total);
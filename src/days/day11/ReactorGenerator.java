@@ -0,0 +1,98 @@
+package days.day11;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * Input generator for Day 11: Reactor.
+ * <p>
+ * Produces a layered directed acyclic graph of about {@value #BASE_NODES} devices per
+ * unit of scale. The depth is fixed at {@value #LAYERS} layers, as in the puzzle input,
+ * and the scale only widens the layers, so path counts stay within a {@code long} and
+ * the recursion depth stays bounded. "svr" is the only device of the first layer, every
+ * device connects to one to three devices of the next layer, and the last layer
+ * connects to "out".
+ * </p>
+ * <p>
+ * "fft" and "dac" sit at one and two thirds of the depth, and half of the devices of
+ * the layer before each of them connect to it, so paths through both always exist.
+ * "you" sits {@value #YOU_DEPTH} layers before "out", which keeps the exhaustive Silver
+ * search small at any scale.
+ * </p>
+ */
+public class ReactorGenerator implements InputGenerator {
+
+    /** Approximate number of devices at scale 1. */
+    private static final int BASE_NODES = 600;
+
+    /** Number of layers between "svr" and "out". */
+    private static final int LAYERS = 30;
+
+    /** Number of layers from "you" to "out". */
+    private static final int YOU_DEPTH = 8;
+
+    /**
+     * Generates a random device graph.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return one device and its outputs per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        int width = Math.max(1, BASE_NODES * scale / LAYERS);
+        String[][] layers = new String[LAYERS][];
+        int index = 0;
+        for (int l = 0; l < LAYERS; l++) {
+            layers[l] = new String[(l == 0) ? 1 : width];
+            for (int i = 0; i < layers[l].length; i++) layers[l][i] = name(index++);
+        }
+        layers[0][0] = "svr";
+        layers[LAYERS / 3][0] = "fft";
+        layers[2 * LAYERS / 3][0] = "dac";
+        layers[LAYERS - YOU_DEPTH][0] = "you";
+
+        List<String> lines = new ArrayList<>(index);
+        for (int l = 0; l < LAYERS; l++) {
+            for (String node : layers[l]) {
+                StringJoiner outs = new StringJoiner(" ", node + ": ", "");
+                if (l == LAYERS - 1) {
+                    outs.add("out");
+                } else {
+                    String[] next = layers[l + 1];
+                    List<String> targets = new ArrayList<>();
+                    boolean hub = (l + 1 == LAYERS / 3 || l + 1 == 2 * LAYERS / 3) && random.nextBoolean();
+                    if (hub) targets.add(next[0]);
+                    int degree = 1 + random.nextInt(3);
+                    for (int e = 0; e < degree; e++) {
+                        String t = next[random.nextInt(next.length)];
+                        if (!targets.contains(t)) targets.add(t);
+                    }
+                    targets.forEach(outs::add);
+                }
+                lines.add(outs.toString());
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Builds the five-letter name of a generic device, distinct from the
+     * three-letter names of the special devices.
+     *
+     * @param index index of the device
+     * @return the device name
+     */
+    private static String name(int index) {
+        char[] chars = new char[5];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = (char) ('a' + index % 26);
+            index /= 26;
+        }
+        return new String(chars);
+    }
+}
@@ -1,10 +1,14 @@
 package days.day12;
 
+import core.Cursor;
+import core.Grid;
+import core.Phase;
+import core.SolveContext;
 import core.Solver;
+import core.collections.IntList;
+import core.collections.PrimitiveSort;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Solver for Day 12: Tree Farm problem.
@@ -14,9 +18,19 @@ import java.util.regex.Pattern;
  * - Silver: Count how many regions can be fully fitted with the given shapes.
  * - Gold: Not implemented here (last problem, solution assumed to be achieving all stars).
  * </p>
+ * <p>
+ * Each region is a {@link Grid} of {@link #FREE} and {@link #TAKEN} cells, and placements
+ * are precomputed as lists of flat grid indexes.
+ * </p>
  */
 public class TreeFarm implements Solver {
 
+    /** Cell not covered by any piece. */
+    private static final byte FREE = 0;
+
+    /** Cell covered by a piece, also used for the border of a region. */
+    private static final byte TAKEN = 1;
+
     /**
      * Solves the Silver variant of the Tree Farm problem.
      * <p>
@@ -29,11 +43,12 @@ public class TreeFarm implements Solver {
      * @return number of regions that can be successfully filled with the given shapes
      */
     @Override
+    @SuppressWarnings("try")
     public long solveSilver(List<String> input) {
         List<boolean[][]> shapes = new ArrayList<>();
         List<String> regionLines = new ArrayList<>();
 
-        Pattern regionPattern = Pattern.compile("^(\\d+)x(\\d+):\\s*(.*)$");
+        Cursor cursor = new Cursor("");
         boolean readingShapes = true;
         List<String> buffer = new ArrayList<>();
         for (String raw : input) {
@@ -46,8 +61,7 @@ public class TreeFarm implements Solver {
                 }
                 continue;
             }
-            Matcher m = regionPattern.matcher(line);
-            if (m.matches()) {
+            if (isRegion(cursor.reset(line))) {
                 if (!buffer.isEmpty()) {
                     shapes.add(bufferToShape(buffer));
                     buffer.clear();
@@ -55,7 +69,7 @@ public class TreeFarm implements Solver {
                 readingShapes = false;
                 regionLines.add(line);
             } else if (readingShapes) {
-                if (line.matches("^\\d+:\\s*$")) {
+                if (isShapeHeader(cursor.reset(line))) {
                     if (!buffer.isEmpty()) {
                         shapes.add(bufferToShape(buffer));
                         buffer.clear();
@@ -77,17 +91,22 @@ public class TreeFarm implements Solver {
             shapeOrientations.add(generateOrientations(s));
         }
 
+        SolveContext context = SolveContext.current();
+        SolveContext.Ticker ticker = context.ticker();
         int fitCount = 0;
-        for (String rline : regionLines) {
-            Matcher m = regionPattern.matcher(rline);
-            if (!m.matches()) continue;
-            int W = Integer.parseInt(m.group(1));
-            int H = Integer.parseInt(m.group(2));
-            String countsStr = m.group(3).trim();
-            String[] toks = countsStr.split("\\s+");
+        for (int ri = 0; ri < regionLines.size(); ri++) {
+            context.progress(ri, regionLines.size(), "regions");
+            context.checkpoint();
+            String rline = regionLines.get(ri);
+            if (!isRegion(cursor.reset(rline))) continue;
+            cursor.reset(rline);
+            int W = cursor.nextInt();
+            cursor.expect('x');
+            int H = cursor.nextInt();
+            cursor.expect(':');
             int[] counts = new int[shapes.size()];
-            for (int i = 0; i < counts.length && i < toks.length; i++) {
-                counts[i] = Integer.parseInt(toks[i]);
+            for (int i = 0; i < counts.length && cursor.hasNumber(); i++) {
+                counts[i] = cursor.nextInt();
             }
 
             int totalCells = 0;
@@ -99,7 +118,7 @@ public class TreeFarm implements Solver {
                 continue;
             }
 
-            List<Integer> pieces = new ArrayList<>();
+            IntList pieces = new IntList();
             for (int si = 0; si < counts.length; si++) {
                 for (int c = 0; c < counts[si]; c++) pieces.add(si);
             }
@@ -109,24 +128,62 @@ public class TreeFarm implements Solver {
                 continue;
             }
 
-            Map<Integer, List<int[]>> placementsByShape = new HashMap<>();
-            for (int si = 0; si < shapes.size(); si++) {
-                if (counts[si] == 0) continue;
-                List<int[]> pl = computePlacementsForShape(shapeOrientations.get(si), W, H);
-                placementsByShape.put(si, pl);
+            Grid grid = new Grid(W, H, FREE, TAKEN);
+            List<List<int[]>> placementsByShape = new ArrayList<>(shapes.size());
+            try (Phase ignored = Phase.start("TreeFarm.placements")) {
+                for (int si = 0; si < shapes.size(); si++) {
+                    placementsByShape.add((counts[si] == 0)
+                            ? null
+                            : computePlacementsForShape(shapeOrientations.get(si), grid));
+                }
             }
 
-            Integer[] pieceOrder = pieces.toArray(new Integer[0]);
-            Arrays.sort(pieceOrder, Comparator.comparingInt(a -> placementsByShape.get(a).size()));
+            // Pieces are listed by ascending shape, so sorting by (placements, shape)
+            // keeps the order of a stable sort on the number of placements
+            int[] pieceOrder = pieces.toArray();
+            int[] placementCounts = new int[pieceOrder.length];
+            for (int p = 0; p < pieceOrder.length; p++) {
+                placementCounts[p] = placementsByShape.get(pieceOrder[p]).size();
+            }
+            PrimitiveSort.sortByKey(placementCounts, pieceOrder);
 
-            boolean[] grid = new boolean[W * H];
-            boolean success = backtrackPlace(0, pieceOrder, placementsByShape, grid);
+            boolean success;
+            try (Phase ignored = Phase.start("TreeFarm.backtrack")) {
+                success = backtrackPlace(0, pieceOrder, placementsByShape, grid, ticker);
+            }
             if (success) fitCount++;
         }
+        context.progress(regionLines.size(), regionLines.size(), "regions");
 
         return fitCount;
     }
 
+    /**
+     * Checks whether a line describes a region, i.e. starts with "WxH:".
+     *
+     * @param cursor cursor positioned at the start of the stripped line
+     * @return {@code true} if the line is a region line
+     */
+    private static boolean isRegion(Cursor cursor) {
+        if (!cursor.atDigit()) return false;
+        cursor.nextLong();
+        if (!cursor.skip('x') || !cursor.atDigit()) return false;
+        cursor.nextLong();
+        return cursor.skip(':');
+    }
+
+    /**
+     * Checks whether a line is a shape header such as "3:".
+     *
+     * @param cursor cursor positioned at the start of the stripped line
+     * @return {@code true} if the line is a number followed by a colon and nothing else
+     */
+    private static boolean isShapeHeader(Cursor cursor) {
+        if (!cursor.atDigit()) return false;
+        cursor.nextLong();
+        return cursor.skip(':') && !cursor.skipWhitespace().hasNext();
+    }
+
     /**
      * Solves the Gold variant of the Tree Farm problem.
      * <p>
@@ -266,14 +323,15 @@ public class TreeFarm implements Solver {
     }
 
     /**
-     * Computes all possible placements of a given shape (with its orientations) within a grid of size WxH.
+     * Computes all possible placements of a given shape (with its orientations) within a region.
      *
      * @param orientations list of shape coordinates in different orientations
-     * @param W the width of the grid
-     * @param H the height of the grid
+     * @param grid the region, whose size bounds the placements
      * @return list of placements, where each placement is an array of grid indices occupied by the shape
      */
-    private static List<int[]> computePlacementsForShape(List<int[]> orientations, int W, int H) {
+    private static List<int[]> computePlacementsForShape(List<int[]> orientations, Grid grid) {
+        int W = grid.width();
+        int H = grid.height();
         List<int[]> placements = new ArrayList<>();
         for (int[] ori : orientations) {
             int maxX = 0, maxY = 0;
@@ -291,7 +349,7 @@ public class TreeFarm implements Solver {
                     for (int i = 0, k = 0; i < ori.length; i += 2, k++) {
                         int x = ori[i] + ox;
                         int y = ori[i + 1] + oy;
-                        cells[k] = x + y * W;
+                        cells[k] = grid.index(y, x);
                     }
                     placements.add(cells);
                 }
@@ -305,22 +363,24 @@ public class TreeFarm implements Solver {
      *
      * @param idx current index in the pieceOrder array
      * @param pieceOrder array representing the order in which pieces are placed
-     * @param placementsByShape map from shape index to list of possible placements
-     * @param grid boolean array representing the occupied cells of the grid
+     * @param placementsByShape list of possible placements, indexed by shape
+     * @param grid the region, holding the occupied cells
+     * @param ticker ticker of the solve, polled on every call, since the search may be exponential
      * @return true if all pieces can be successfully placed; false otherwise
      */
-    private static boolean backtrackPlace(int idx, Integer[] pieceOrder, Map<Integer, List<int[]>> placementsByShape,
-                                          boolean[] grid) {
+    private static boolean backtrackPlace(int idx, int[] pieceOrder, List<List<int[]>> placementsByShape,
+                                          Grid grid, SolveContext.Ticker ticker) {
+        ticker.tick();
         if (idx >= pieceOrder.length) return true; // all placed
         int shape = pieceOrder[idx];
         List<int[]> placements = placementsByShape.get(shape);
 
         for (int[] place : placements) {
             if (canPlace(place, grid)) {
-                setPlace(place, grid, true);
-                boolean ok = backtrackPlace(idx + 1, pieceOrder, placementsByShape, grid);
+                setPlace(place, grid, TAKEN);
+                boolean ok = backtrackPlace(idx + 1, pieceOrder, placementsByShape, grid, ticker);
                 if (ok) return true;
-                setPlace(place, grid, false);
+                setPlace(place, grid, FREE);
             }
         }
         return false;
@@ -330,12 +390,12 @@ public class TreeFarm implements Solver {
      * Checks if a set of cells can be placed on the grid without overlapping existing filled cells.
      *
      * @param cells array of grid indices representing the cells the shape would occupy
-     * @param grid boolean array representing the occupied cells of the grid
+     * @param grid the region, holding the occupied cells
      * @return true if all cells are free; false otherwise
      */
-    private static boolean canPlace(int[] cells, boolean[] grid) {
+    private static boolean canPlace(int[] cells, Grid grid) {
         for (int c : cells) {
-            if (grid[c]) return false;
+            if (grid.get(c) != FREE) return false;
         }
         return true;
     }
@@ -344,10 +404,10 @@ public class TreeFarm implements Solver {
      * Marks or unmarks a set of cells on the grid.
      *
      * @param cells array of grid indices to mark or unmark
-     * @param grid boolean array representing the occupied cells of the grid
-     * @param val true to mark cells as occupied, false to unmark
+     * @param grid the region, holding the occupied cells
+     * @param val {@link #TAKEN} to mark cells as occupied, {@link #FREE} to unmark
      */
-    private static void setPlace(int[] cells, boolean[] grid, boolean val) {
-        for (int c : cells) grid[c] = val;
+    private static void setPlace(int[] cells, Grid grid, byte val) {
+        for (int c : cells) grid.set(c, val);
     }
 }
@@ -0,0 +1,68 @@
+package days.day12;
+
+import core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input generator for Day 12: Tree Farm.
+ * <p>
+ * Produces the six 3×3 presents of the puzzle, each covering seven cells, followed by
+ * {@value #BASE_REGIONS} regions per unit of scale between 35 and 50 cells wide and
+ * tall. As in the puzzle input, about half of the regions are loosely packed and
+ * easily fit their presents, while the others ask for more cells than they have.
+ * </p>
+ */
+public class TreeFarmGenerator implements InputGenerator {
+
+    /** Number of regions at scale 1. */
+    private static final int BASE_REGIONS = 1000;
+
+    /** Shapes of the presents, all covering seven cells of a 3×3 box. */
+    private static final String[][] SHAPES = {
+            {"###", "##.", "##."},
+            {"###", "##.", ".##"},
+            {".##", "###", "##."},
+            {"##.", "###", "##."},
+            {"###", "#..", "###"},
+            {"###", ".#.", "###"},
+    };
+
+    /** Number of cells covered by each present. */
+    private static final int SHAPE_AREA = 7;
+
+    /**
+     * Generates the presents and a list of random regions.
+     *
+     * @param scale  size of the input relative to the real puzzle input
+     * @param random source of randomness
+     * @return the shape blocks followed by one region per line
+     */
+    @Override
+    public List<String> generate(int scale, Random random) {
+        List<String> lines = new ArrayList<>();
+        for (int s = 0; s < SHAPES.length; s++) {
+            lines.add(s + ":");
+            lines.addAll(List.of(SHAPES[s]));
+            lines.add("");
+        }
+
+        for (int r = 0; r < BASE_REGIONS * scale; r++) {
+            int w = 35 + random.nextInt(16);
+            int h = 35 + random.nextInt(16);
+            int pieces = random.nextBoolean()
+                    ? (w / 3) * (h / 3) * (50 + random.nextInt(20)) / 100
+                    : (w * h) / SHAPE_AREA + 1 + random.nextInt(20);
+
+            int[] counts = new int[SHAPES.length];
+            for (int p = 0; p < pieces; p++) counts[random.nextInt(SHAPES.length)]++;
+
+            StringBuilder line = new StringBuilder().append(w).append('x').append(h).append(':');
+            for (int c : counts) line.append(' ').append(c);
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
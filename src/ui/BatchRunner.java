@@ -0,0 +1,215 @@
+package ui;
+
+import core.GeneratorRegistry;
+import core.InputDigest;
+import core.InputReader;
+import core.Part;
+import core.ResourceProbe;
+import core.ResourceUsage;
+import core.ResultCache;
+import core.SolveContext;
+import core.Solver;
+import core.SolverRegistry;
+import core.SolverRunner;
+import core.StreamingSolver;
+import core.TimeLogger;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless runner that solves a selection of days, parts and datasets concurrently.
+ * <p>
+ * Every (day, part, dataset) combination becomes an independent job. Jobs are
+ * scheduled on a work-stealing pool, largest expected cost first, so the total wall
+ * time is bounded by the slowest solver rather than by the sum of all of them.
+ * Once every job has finished, a single table with the results and timings is
+ * printed, and each timing is logged through {@link TimeLogger}.
+ * </p>
+ * <p>
+ * Allocated bytes are measured per solving thread and are exact, but GC counts and
+ * peak heap are JVM-wide and therefore shared by jobs that overlap in time.
+ * </p>
+ * <p>
+ * Results found in the {@link ResultCache} are reported as cached, without a time,
+ * and are not logged; use {@code --no-cache} to solve every job.
+ * </p>
+ * <p>
+ * With {@code --budget}, every job runs under a {@link SolveContext} with that time
+ * budget; a job exceeding it fails with the progress its solver had reported.
+ * </p>
+ */
+public class BatchRunner {
+
+    /**
+     * Relative cost weight of each day (index 0 unused), multiplied by the input size
+     * to estimate the cost of a job. Brute-force, quadratic, ILP and backtracking days
+     * weigh the most.
+     */
+    static final int[] COST_WEIGHT = {0, 1, 50, 1, 2, 1, 1, 1, 20, 20, 50, 1, 50};
+
+    /**
+     * A single unit of work.
+     *
+     * @param day     the day number
+     * @param part    the part to solve
+     * @param dataset "test", "full" or "gen"
+     * @param cost    estimated relative cost, used for scheduling
+     */
+    private record Job(int day, Part part, String dataset, long cost) {}
+
+    /**
+     * Outcome of a job.
+     *
+     * @param job    the job that was run
+     * @param result the puzzle result, meaningless if {@code error} is not {@code null}
+     * @param nanos  time spent solving, in nanoseconds
+     * @param usage  memory and GC activity of the run, {@code null} if the job failed or was cached
+     * @param cached whether the result was served from the {@link ResultCache}
+     * @param error  error message if the job failed, {@code null} otherwise
+     */
+    private record Outcome(Job job, long result, long nanos, ResourceUsage usage, boolean cached, String error) {}
+
+    /**
+     * Runs every selected combination and prints the aggregated report.
+     *
+     * @param options the selection of days, parts and datasets
+     */
+    static void run(Options options) {
+        List<Job> jobs = new ArrayList<>();
+        for (int day : options.days) {
+            for (String dataset : options.datasets) {
+                long size = new File(InputReader.inputPath(day, dataset.equals("gen") ? "full" : dataset)).length();
+                long cost = size * COST_WEIGHT[day] * (dataset.equals("gen") ? options.scale : 1);
+                for (Part part : options.parts) {
+                    jobs.add(new Job(day, part, dataset, cost));
+                }
+            }
+        }
+        jobs.sort(Comparator.comparingLong(Job::cost).reversed());
+
+        ExecutorService pool = Executors.newWorkStealingPool(options.threads);
+        long wallStart = System.nanoTime();
+        List<Future<Outcome>> futures = new ArrayList<>();
+        for (Job job : jobs) {
+            futures.add(pool.submit(() -> execute(job, options)));
+        }
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Future<Outcome> future : futures) {
+            try {
+                outcomes.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pool.shutdownNow();
+                return;
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Unexpected batch failure", e.getCause());
+            }
+        }
+        long wallNanos = System.nanoTime() - wallStart;
+        pool.shutdown();
+
+        outcomes.sort(Comparator.comparingInt((Outcome o) -> o.job.day)
+                .thenComparing(o -> o.job.dataset)
+                .thenComparing(o -> o.job.part));
+        if (options.datasets.contains("gen")) {
+            System.out.printf("Synthetic inputs: scale %d, seed %d%n", options.scale, options.seed);
+        }
+        printReport(outcomes, wallNanos);
+    }
+
+    /**
+     * Reads or generates the input of a job and solves it.
+     * <p>
+     * Synthetic inputs are generated from the scale and seed of the options and logged
+     * under "DayNxS", so they never mix with the timings of the puzzle inputs. Puzzle inputs of {@link StreamingSolver}s are streamed
+     * from disk instead of being read up front, unless {@code --mapped} is given, so
+     * their time includes reading the file. Failures are captured in the returned {@link Outcome}
+     * instead of aborting the whole batch.
+     * </p>
+     *
+     * @param job     the job to run
+     * @param options the mapping, scale, seed and budget options
+     * @return the outcome of the job
+     */
+    private static Outcome execute(Job job, Options options) {
+        try {
+            boolean synthetic = job.dataset.equals("gen");
+            Solver solver = SolverRegistry.get(job.day);
+            String path = InputReader.inputPath(job.day, job.dataset);
+            boolean streaming = !synthetic && !options.mapped && solver instanceof StreamingSolver;
+
+            List<String> lines = null;
+            if (synthetic) {
+                lines = GeneratorRegistry.generate(job.day, options.scale, options.seed);
+            } else if (!streaming) {
+                lines = options.mapped
+                        ? InputReader.mapLines(path).asLines()
+                        : InputReader.readLines(path);
+            }
+
+            String digest = streaming ? InputDigest.ofFile(path) : InputDigest.of(lines);
+            OptionalLong cached = ResultCache.get(solver, job.part, digest);
+            if (cached.isPresent()) {
+                return new Outcome(job, cached.getAsLong(), 0, null, true, null);
+            }
+
+            ResourceProbe probe = ResourceProbe.start();
+            long start = System.nanoTime();
+            SolveContext context = SolveContext.create(options.budget(), null);
+            long result;
+            if (streaming) {
+                SolverRunner.FileResult solved = SolverRunner.solveFileDigested(solver, path, job.part, context);
+                result = solved.result();
+                digest = solved.digest();
+            } else {
+                result = SolverRunner.solve(solver, lines, job.part, context);
+            }
+            long nanos = System.nanoTime() - start;
+            ResourceUsage usage = probe.stop();
+            ResultCache.put(solver, job.part, digest, result);
+
+            TimeLogger.log(Options.problemId(job.day, job.dataset, options.scale), job.part.label(), nanos, usage);
+            return new Outcome(job, result, nanos, usage, false, null);
+        } catch (RuntimeException e) {
+            String message = (e.getMessage() != null) ? e.getMessage() : e.getClass().getSimpleName();
+            return new Outcome(job, 0, 0, null, false, message);
+        }
+    }
+
+    /**
+     * Prints the results table followed by the wall-clock and cumulative solve times.
+     *
+     * @param outcomes  the outcomes to print, in display order
+     * @param wallNanos wall-clock time of the whole batch, in nanoseconds
+     */
+    private static void printReport(List<Outcome> outcomes, long wallNanos) {
+        System.out.printf("%-4s %-7s %-5s %-20s %14s  %s%n", "Day", "Part", "Set", "Result", "Time (ms)", "Memory");
+        long totalNanos = 0;
+        for (Outcome o : outcomes) {
+            if (o.error != null) {
+                System.out.printf("%-4d %-7s %-5s ERROR: %s%n",
+                        o.job.day, o.job.part.label(), o.job.dataset, o.error);
+                continue;
+            }
+            if (o.cached) {
+                System.out.printf("%-4d %-7s %-5s %-20d %14s  %s%n",
+                        o.job.day, o.job.part.label(), o.job.dataset, o.result, "cached", "-");
+                continue;
+            }
+            totalNanos += o.nanos;
+            System.out.printf("%-4d %-7s %-5s %-20d %14.3f  %s%n",
+                    o.job.day, o.job.part.label(), o.job.dataset, o.result, o.nanos / 1e6, o.usage.describe());
+        }
+        System.out.printf("Wall time: %.3f ms (sum of solve times: %.3f ms)%n",
+                wallNanos / 1e6, totalNanos / 1e6);
+    }
+}
@@ -0,0 +1,156 @@
+package ui;
+
+import core.FlightRecording;
+import core.LowFootprint;
+import core.ParallelReduce;
+import core.ResultCache;
+import core.SolverRegistry;
+
+import java.nio.file.Files;
+import java.util.function.IntSupplier;
+
+/**
+ * Entry point for the non-interactive modes of the application.
+ * <p>
+ * The first argument selects the command and the remaining ones are parsed as
+ * {@link Options}. Invalid arguments print an error and the usage, and terminate
+ * the JVM with exit code 2. A command that reports a failure, such as a regression
+ * found by {@code check}, terminates the JVM with its own non-zero exit code.
+ * </p>
+ * <p>
+ * With {@code --jfr}, the command runs inside a {@link FlightRecording} that is dumped
+ * once the command completes.
+ * </p>
+ */
+public class CommandLine {
+
+    /** Usage text printed on invalid arguments. */
+    private static final String USAGE = """
+            Usage: Main [command] [options]
+              (no command)   start the interactive terminal UI
+              batch          solve the selected days concurrently and print a report
+              check          measure the selected days and fail if slower than their logged baseline
+              compare        measure every implementation of the selected days on the same input
+              serve          answer solve requests over HTTP on the loopback interface
+              startup        break down the time from JVM start to the first result of one day
+              sweep          solve every input file of a directory for one day and report throughput
+              verify         check the fast variants of the selected days against their reference
+              watch          solve the selected days again whenever their input files change
+
+            Options:
+              --days 1-5,8   days to run (default: 1-12)
+              --parts silver,gold
+                             parts to run (default: both)
+              --sets test,full,gen
+                             datasets to run, gen being synthetic (default: full)
+              --scale N      size of synthetic inputs, 1-1000 times the puzzle (default: 10)
+              --seed S       seed of synthetic inputs (default: 2025)
+              --mapped       read inputs through memory mapping
+              --threads N    worker threads (default: available processors)
+              --warmup N     warm-up iterations of check and compare (default: 5)
+              --iterations N measured iterations of check and compare (default: 10)
+              --threshold P  slowdown in percent tolerated by check (default: 25)
+              --trials N     generated inputs per day of verify (default: 10)
+              --port N       port of serve (default: 8025)
+              --queue N      requests waiting per lane of serve before refusing (default: 64)
+              --budget MS    time budget of each solve of batch, serve, sweep and verify (default: none)
+              --dir DIR      directory of input files of sweep
+              --impl NAME,DAY=NAME
+                             implementation of the selected days, e.g. reference (default: fastest)
+              --jfr FILE     record the run with Java Flight Recorder and dump it to FILE
+              --no-cache     bypass the persistent result cache and solve everything
+              --low-footprint
+                             use the memory-lean strategies of the solvers that have them
+              --sequential   solve days 1, 3 and 10 on one thread instead of in parallel chunks
+            """;
+
+    /**
+     * Parses the arguments and runs the selected command.
+     *
+     * @param args the command-line arguments, starting with the command name
+     */
+    public static void run(String[] args) {
+        IntSupplier command;
+        Options options;
+        try {
+            options = Options.parse(args, 1);
+            command = switch (args[0]) {
+                case "batch" -> () -> {
+                    BatchRunner.run(options);
+                    return 0;
+                };
+                case "check" -> () -> RegressionGate.run(options);
+                case "compare" -> () -> ImplementationComparison.run(options);
+                case "serve" -> () -> {
+                    SolveServer.run(options);
+                    return 0;
+                };
+                case "startup" -> {
+                    if (options.days.size() != 1 || options.datasets.size() != 1 || options.datasets.contains("gen")) {
+                        throw new IllegalArgumentException("startup measures a single day and dataset, e.g. --days 10 --sets full");
+                    }
+                    yield () -> {
+                        StartupReport.run(options);
+                        return 0;
+                    };
+                }
+                case "sweep" -> {
+                    if (options.inputDir == null || !Files.isDirectory(options.inputDir)) {
+                        throw new IllegalArgumentException("sweep requires --dir with an existing directory");
+                    }
+                    if (options.days.size() != 1) {
+                        throw new IllegalArgumentException("sweep solves a single day, e.g. --days 7");
+                    }
+                    yield () -> {
+                        InputSweep.run(options);
+                        return 0;
+                    };
+                }
+                case "verify" -> {
+                    if (options.sequential || options.lowFootprint) {
+                        throw new IllegalArgumentException("verify selects the variants itself, drop --sequential and --low-footprint");
+                    }
+                    yield () -> DifferentialCheck.run(options);
+                }
+                case "watch" -> {
+                    if (options.datasets.contains("gen")) {
+                        throw new IllegalArgumentException("watch does not support the gen dataset, which has no input file");
+                    }
+                    yield () -> {
+                        WatchMode.run(options);
+                        return 0;
+                    };
+                }
+                default -> throw new IllegalArgumentException("Unknown command: " + args[0]);
+            };
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options.noCache) ResultCache.setEnabled(false);
+        if (options.lowFootprint) LowFootprint.setEnabled(true);
+        if (options.sequential) ParallelReduce.setEnabled(false);
+        options.implementations.forEach(SolverRegistry::select);
+        int status = execute(command, options);
+        if (status != 0) System.exit(status);
+    }
+
+    /**
+     * Runs a command, inside a flight recording if {@code --jfr} was given.
+     *
+     * @param command the command to run
+     * @param options the parsed options
+     * @return the exit status of the command
+     */
+    @SuppressWarnings("try")
+    private static int execute(IntSupplier command, Options options) {
+        if (options.jfr == null) {
+            return command.getAsInt();
+        }
+        try (FlightRecording ignored = new FlightRecording(options.jfr)) {
+            return command.getAsInt();
+        }
+    }
+}
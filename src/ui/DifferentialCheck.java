@@ -0,0 +1,295 @@
+package ui;
+
+import core.GeneratorRegistry;
+import core.InputMinimizer;
+import core.ParallelReduce;
+import core.Part;
+import core.PreparedSolver;
+import core.SolveCancelledException;
+import core.SolveContext;
+import core.Solver;
+import core.SolverRegistry;
+import core.SolverRunner;
+import core.SolverVariant;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless runner checking every variant of the selected days against their reference.
+ * <p>
+ * Each trial generates a puzzle-sized input, with seeds counting up from {@code --seed},
+ * and solves the selected parts with every {@link SolverVariant} of the day. A result
+ * differing from the reference, or an exception where the reference succeeded, is a
+ * divergence. The first divergence of each variant and part is shrunk with
+ * {@link InputMinimizer} to a small input on which the variant still diverges, written
+ * to {@code logs/} and shown in the report. Inputs the reference cannot solve are not
+ * divergences, so the minimizer only keeps well-formed inputs.
+ * </p>
+ * <p>
+ * Days whose reference prepares a model are also checked with a {@value #SHARED_MODEL}
+ * harness, internal to this check: it solves Gold on a model Silver has already been
+ * solved on, as when {@link SolverRunner} shares the model between parts, which catches
+ * a Silver solve altering its model.
+ * </p>
+ * <p>
+ * On the first input, every prepared variant also asks {@link SolverRunner} for its model;
+ * a variant handed the model another variant prepared counts as a divergence, since
+ * variants sharing a class may build different models.
+ * </p>
+ * <p>
+ * Parallel variants run with chunks of {@value #FORCED_CHUNK} elements, so that even
+ * small inputs are split and merged at many boundaries. Every solve runs under the
+ * {@code --budget} time limit, {@value #DEFAULT_BUDGET_SECONDS} seconds by default; a
+ * reference running out of time skips the input, a variant running out of time diverges.
+ * </p>
+ */
+public class DifferentialCheck {
+
+    /** Name under which the shared-model harness is reported. */
+    private static final String SHARED_MODEL = "shared-model";
+
+    /** Chunk size forced on parallel variants, small and odd so chunk boundaries fall everywhere. */
+    private static final int FORCED_CHUNK = 7;
+
+    /** Scale of the generated inputs: small inputs make for more trials and smaller reproductions. */
+    private static final int SCALE = 1;
+
+    /** Time budget of each solve when {@code --budget} is not given, in seconds. */
+    private static final int DEFAULT_BUDGET_SECONDS = 30;
+
+    /** Largest number of candidate inputs tried while minimizing one divergence. */
+    private static final int MAX_MINIMIZER_TESTS = 2000;
+
+    /** Number of lines of a minimized input shown in the report. */
+    private static final int LINES_SHOWN = 10;
+
+    /** Directory the minimized inputs are written to. */
+    private static final Path OUTPUT_DIR = Paths.get("logs");
+
+    /**
+     * Result of one solve, either a value or the message of the exception it threw.
+     *
+     * @param value the result, meaningful only if {@code error} is {@code null}
+     * @param error message of the exception thrown by the solve, or {@code null}
+     */
+    private record Outcome(long value, String error) {
+        @Override
+        public String toString() {
+            return (error == null) ? Long.toString(value) : "ERROR: " + error;
+        }
+    }
+
+    /**
+     * Solver preparing the model of another solver once per call, and solving Gold on a
+     * model Silver has already been solved on.
+     *
+     * @param solver the prepared solver
+     * @param <T>    type of the model
+     */
+    private record SharedModel<T>(PreparedSolver<T> solver) implements Solver {
+        @Override
+        public long solveSilver(List<String> input) {
+            return solver.solveSilverPrepared(solver.prepare(input));
+        }
+
+        @Override
+        public long solveGold(List<String> input) {
+            T model = solver.prepare(input);
+            solver.solveSilverPrepared(model);
+            return solver.solveGoldPrepared(model);
+        }
+    }
+
+    /**
+     * Checks the selected days and prints the report.
+     *
+     * @param options the days, parts, trials, seed and budget
+     * @return 0 if every variant agreed with its reference, 1 otherwise
+     */
+    static int run(Options options) {
+        Duration budget = (options.budget() != null) ? options.budget() : Duration.ofSeconds(DEFAULT_BUDGET_SECONDS);
+        int divergences = 0;
+        ParallelReduce.setForcedChunk(FORCED_CHUNK);
+        try {
+            for (int day : options.days) {
+                divergences += checkDay(day, options, budget);
+            }
+        } finally {
+            ParallelReduce.setForcedChunk(0);
+        }
+        System.out.println((divergences == 0)
+                ? "All variants agree with their reference."
+                : divergences + " divergence(s) found.");
+        return (divergences == 0) ? 0 : 1;
+    }
+
+    /**
+     * Runs the trials of one day.
+     *
+     * @param day     the day number
+     * @param options the parts, trials and seed
+     * @param budget  time budget of each solve
+     * @return the number of divergences found
+     */
+    private static int checkDay(int day, Options options, Duration budget) {
+        List<SolverVariant> variants = new ArrayList<>(SolverRegistry.variants(day));
+        Solver reference = variants.get(0).create();
+        if (reference instanceof PreparedSolver<?>) {
+            variants.add(new SolverVariant(SHARED_MODEL, "solves gold on the model silver used",
+                    () -> new SharedModel<>((PreparedSolver<?>) variants.get(0).create())));
+        }
+        if (variants.size() < 2) {
+            System.out.printf("Day %d: no variant besides the reference, skipped%n", day);
+            return 0;
+        }
+        List<SolverVariant> candidates = variants.subList(1, variants.size());
+        List<Solver> solvers = candidates.stream().map(SolverVariant::create).toList();
+        System.out.printf("Day %d: %s against %s, %d trials from seed %d%n", day,
+                String.join(", ", candidates.stream().map(SolverVariant::name).toList()),
+                variants.get(0).name(), options.trials, options.seed);
+
+        int[][] diverged = new int[candidates.size()][options.parts.size()];
+        int skipped = 0;
+        int shared = 0;
+        for (int trial = 0; trial < options.trials; trial++) {
+            long seed = options.seed + trial;
+            List<String> input = GeneratorRegistry.generate(day, SCALE, seed);
+            if (trial == 0) shared = checkPreparedModels(variants, reference, solvers, input);
+            for (int p = 0; p < options.parts.size(); p++) {
+                Part part = options.parts.get(p);
+                Outcome expected = solve(reference, input, part, budget);
+                if (expected.error != null) {
+                    System.out.printf("  seed %d, %s: reference failed, input skipped (%s)%n", seed, part.label(), expected.error);
+                    skipped++;
+                    continue;
+                }
+                for (int v = 0; v < candidates.size(); v++) {
+                    Outcome actual = solve(solvers.get(v), input, part, budget);
+                    if (actual.equals(expected)) continue;
+                    diverged[v][p]++;
+                    System.out.printf("  DIVERGENCE %s %s, seed %d: reference %s, %s %s%n", candidates.get(v).name(),
+                            part.label(), seed, expected, candidates.get(v).name(), actual);
+                    if (diverged[v][p] == 1) {
+                        reportMinimized(day, candidates.get(v).name(), reference, solvers.get(v), part, seed, input, budget);
+                    }
+                }
+            }
+        }
+
+        int total = shared;
+        for (int v = 0; v < candidates.size(); v++) {
+            StringBuilder line = new StringBuilder(String.format("  %-14s", candidates.get(v).name()));
+            for (int p = 0; p < options.parts.size(); p++) {
+                line.append(String.format(" %s %s", options.parts.get(p).label(),
+                        (diverged[v][p] == 0) ? "ok" : diverged[v][p] + " divergence(s)"));
+                total += diverged[v][p];
+            }
+            System.out.println(line);
+        }
+        if (skipped > 0) System.out.printf("  %d solve(s) skipped, the reference failed%n", skipped);
+        return total;
+    }
+
+    /**
+     * Checks that {@link SolverRunner} prepares a model of its own for every prepared variant.
+     *
+     * @param variants  the variants of the day, the reference first
+     * @param reference the reference solver
+     * @param solvers   the solvers of the other variants, in order
+     * @param input     the input every variant prepares
+     * @return the number of variants handed the model of another one
+     */
+    private static int checkPreparedModels(List<SolverVariant> variants, Solver reference, List<Solver> solvers,
+                                           List<String> input) {
+        List<Solver> all = new ArrayList<>();
+        all.add(reference);
+        all.addAll(solvers);
+        List<Object> models = new ArrayList<>();
+        int shared = 0;
+        for (int i = 0; i < all.size(); i++) {
+            Object model = null;
+            if (all.get(i) instanceof PreparedSolver<?> prepared) {
+                try {
+                    model = SolverRunner.prepare(prepared, input);
+                } catch (RuntimeException e) {
+                    // Reported by the trials
+                }
+            }
+            for (int j = 0; j < i; j++) {
+                if (model != null && models.get(j) == model) {
+                    System.out.printf("  SHARED MODEL: %s was handed the model prepared for %s%n",
+                            variants.get(i).name(), variants.get(j).name());
+                    shared++;
+                }
+            }
+            models.add(model);
+        }
+        SolverRunner.clearCache();
+        return shared;
+    }
+
+    /**
+     * Solves one part under a time budget, catching any failure.
+     *
+     * @param solver the solver to run
+     * @param input  the input lines
+     * @param part   the part to solve
+     * @param budget time budget of the solve
+     * @return the result, or the failure of the solve
+     */
+    private static Outcome solve(Solver solver, List<String> input, Part part, Duration budget) {
+        SolveContext context = SolveContext.create(budget, null);
+        try {
+            long value = context.call(() -> (part == Part.SILVER) ? solver.solveSilver(input) : solver.solveGold(input));
+            return new Outcome(value, null);
+        } catch (SolveCancelledException e) {
+            return new Outcome(0, "timed out after " + budget.toMillis() + " ms");
+        } catch (RuntimeException | StackOverflowError e) {
+            return new Outcome(0, (e.getMessage() != null) ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Minimizes a diverging input, writes it to a file and prints its first lines.
+     *
+     * @param day       the day number
+     * @param name      name of the diverging variant
+     * @param reference the reference solver
+     * @param variant   the diverging solver
+     * @param part      the diverging part
+     * @param seed      seed of the diverging input
+     * @param input     the diverging input
+     * @param budget    time budget of each solve
+     */
+    private static void reportMinimized(int day, String name, Solver reference, Solver variant, Part part,
+                                        long seed, List<String> input, Duration budget) {
+        InputMinimizer.Result minimized = InputMinimizer.minimize(input, candidate -> {
+            Outcome expected = solve(reference, candidate, part, budget);
+            return expected.error == null && !solve(variant, candidate, part, budget).equals(expected);
+        }, MAX_MINIMIZER_TESTS);
+
+        List<String> lines = minimized.lines();
+        Path file = OUTPUT_DIR.resolve(String.format("verify-day%02d-%s-%s-%d.txt", day, name, part.label().toLowerCase(), seed));
+        try {
+            Files.createDirectories(OUTPUT_DIR);
+            Files.write(file, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write minimized input: " + file, e);
+        }
+        System.out.printf("    minimized from %d to %d line(s) in %d tests%s, written to %s%n", input.size(), lines.size(),
+                minimized.tests(), minimized.complete() ? "" : " (test limit reached)", file);
+        System.out.printf("    reference %s, %s %s%n",
+                solve(reference, lines, part, budget), name, solve(variant, lines, part, budget));
+        for (String line : lines.subList(0, Math.min(LINES_SHOWN, lines.size()))) {
+            System.out.println("    | " + line);
+        }
+        if (lines.size() > LINES_SHOWN) System.out.printf("    | ... %d more%n", lines.size() - LINES_SHOWN);
+    }
+}
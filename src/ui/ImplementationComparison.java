@@ -0,0 +1,110 @@
+package ui;
+
+import core.GeneratorRegistry;
+import core.InputReader;
+import core.Measurement;
+import core.Part;
+import core.SolverRegistry;
+import core.SolverVariant;
+
+import java.util.List;
+
+/**
+ * Headless runner measuring every implementation of the selected days on the same input.
+ * <p>
+ * For each selected (day, dataset, part) combination, the input is read or generated
+ * once and every implementation of the day is measured on it in turn, with the warm-up
+ * and measured iterations of the options, like the interactive measure mode. The report
+ * shows each median and its speedup over the {@value SolverVariant#REFERENCE}
+ * implementation, and marks the selected implementation with {@code *}. A result differing
+ * from the reference is flagged, since a fast implementation is only worth its speedup if
+ * it agrees.
+ * </p>
+ * <p>
+ * Implementations are measured one at a time, since concurrent runs would disturb each
+ * other's timings. Timings are neither cached nor logged.
+ * </p>
+ */
+public class ImplementationComparison {
+
+    /**
+     * Compares the implementations of every selected combination.
+     *
+     * @param options the selection and iteration counts
+     * @return 0 if every implementation agreed with the reference, 1 otherwise
+     */
+    static int run(Options options) {
+        boolean agreed = true;
+        System.out.printf("Warm-up %d, measured %d%n", options.warmup, options.iterations);
+        for (int day : options.days) {
+            if (SolverRegistry.variants(day).size() < 2) {
+                System.out.printf("Day %d: only the %s implementation, nothing to compare%n", day, SolverVariant.REFERENCE);
+                continue;
+            }
+            for (String dataset : options.datasets) {
+                List<String> lines;
+                try {
+                    lines = dataset.equals("gen")
+                            ? GeneratorRegistry.generate(day, options.scale, options.seed)
+                            : InputReader.readLines(InputReader.inputPath(day, dataset));
+                } catch (RuntimeException e) {
+                    System.out.printf("Day %d (%s): ERROR: %s%n", day, dataset, e.getMessage());
+                    agreed = false;
+                    continue;
+                }
+                String set = dataset.equals("gen") ? "gen x" + options.scale : dataset;
+                for (Part part : options.parts) {
+                    System.out.printf("Day %d (%s), %s%n", day, set, part.label());
+                    agreed &= compare(day, lines, part, options.warmup, options.iterations);
+                }
+            }
+        }
+        System.out.println(agreed ? "All implementations agree." : "Some implementations disagree or failed.");
+        return agreed ? 0 : 1;
+    }
+
+    /**
+     * Measures every implementation of a day on one input and prints the comparison.
+     *
+     * @param day        the day number
+     * @param lines      the input lines, shared by every implementation
+     * @param part       the part to solve
+     * @param warmup     number of warm-up iterations
+     * @param iterations number of measured iterations
+     * @return {@code true} if every implementation returned the result of the reference
+     */
+    static boolean compare(int day, List<String> lines, Part part, int warmup, int iterations) {
+        List<SolverVariant> variants = SolverRegistry.variants(day);
+        String selected = SolverRegistry.selected(day);
+        System.out.printf("  %-16s %14s %9s  %s%n", "Implementation", "Median (ms)", "Speedup", "Result");
+
+        boolean agreed = true;
+        Measurement reference = null;
+        for (SolverVariant variant : variants) {
+            String name = (variant.name().equals(selected) ? "* " : "  ") + variant.name();
+            Measurement measurement;
+            try {
+                measurement = Measurement.run(SolverRegistry.get(day, variant.name()), lines, part, warmup, iterations);
+            } catch (RuntimeException e) {
+                String message = (e.getMessage() != null) ? e.getMessage() : e.getClass().getSimpleName();
+                System.out.printf("%-18s ERROR: %s%n", name, message);
+                agreed = false;
+                continue;
+            }
+            long median = measurement.statistics().median();
+            if (variant.name().equals(SolverVariant.REFERENCE)) reference = measurement;
+
+            String speedup = "-";
+            String status = "";
+            if (reference != null) {
+                speedup = String.format("%.2fx", (double) reference.statistics().median() / Math.max(1, median));
+                if (measurement.result() != reference.result()) {
+                    status = "  MISMATCH";
+                    agreed = false;
+                }
+            }
+            System.out.printf("%-18s %14.3f %9s  %d%s%n", name, median / 1e6, speedup, measurement.result(), status);
+        }
+        return agreed;
+    }
+}
@@ -0,0 +1,217 @@
+package ui;
+
+import core.InputReader;
+import core.LatencyHistogram;
+import core.Part;
+import core.SolveContext;
+import core.Solver;
+import core.SolverRegistry;
+import core.SolverRunner;
+import core.StreamingSolver;
+import core.TimeLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Headless runner that solves every input file of a directory with the solver of one day.
+ * <p>
+ * Each file is an independent task on a fixed pool of {@code --threads} workers, submitted
+ * largest file first so a big input does not start last. A task reads its file and solves
+ * the selected parts one after the other; {@link core.PreparedSolver}s prepare the model
+ * once for all parts, and identical files share it through the model cache of
+ * {@link SolverRunner}. The solver instance, and whatever it precomputes, is shared by
+ * every task.
+ * </p>
+ * <p>
+ * The latency of an input is the time to read it and solve every selected part, which is
+ * what a batch job pays per input. Once every task has finished, the throughput in inputs
+ * per second, the latency distribution, the slowest inputs and the failures are printed.
+ * Each latency is logged through {@link TimeLogger} as {@code DayN@dir}, mode "Input", so
+ * sweeps never mix with the timings of the puzzle inputs.
+ * </p>
+ * <p>
+ * The {@link core.ResultCache} is bypassed, since cached results would measure nothing.
+ * Latencies include the JIT warm-up of the first inputs, as they would in a real batch.
+ * </p>
+ */
+public class InputSweep {
+
+    /** Number of slowest inputs listed in the report. */
+    private static final int SLOWEST_SHOWN = 5;
+
+    /**
+     * Outcome of one input.
+     *
+     * @param file    the input file
+     * @param results the result of every selected part, {@code null} if the input failed
+     * @param nanos   time spent reading and solving the input, in nanoseconds
+     * @param error   error message if the input failed, {@code null} otherwise
+     */
+    private record Outcome(Path file, long[] results, long nanos, String error) {}
+
+    /**
+     * Solves every file of the directory and prints the throughput report.
+     *
+     * @param options the day, parts, directory, threads and budget
+     * @throws UncheckedIOException if the directory cannot be listed
+     */
+    static void run(Options options) {
+        int day = options.days.get(0);
+        List<Path> files = listInputs(options.inputDir);
+        if (files.isEmpty()) {
+            System.out.println("No input files in " + options.inputDir);
+            return;
+        }
+        Solver solver = SolverRegistry.get(day);
+        String problemId = "Day" + day + SolverRegistry.suffix(day)
+                + "@" + options.inputDir.toAbsolutePath().normalize().getFileName();
+        LatencyHistogram latencies = new LatencyHistogram();
+
+        ExecutorService pool = Executors.newFixedThreadPool(options.threads);
+        long wallStart = System.nanoTime();
+        List<Future<Outcome>> futures = new ArrayList<>();
+        for (Path file : files) {
+            futures.add(pool.submit(() -> execute(solver, file, options)));
+        }
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Future<Outcome> future : futures) {
+            try {
+                Outcome outcome = future.get();
+                outcomes.add(outcome);
+                if (outcome.error == null) {
+                    latencies.record(outcome.nanos);
+                    TimeLogger.log(problemId, "Input", outcome.nanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pool.shutdownNow();
+                return;
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Unexpected sweep failure", e.getCause());
+            }
+        }
+        long wallNanos = System.nanoTime() - wallStart;
+        pool.shutdown();
+
+        printReport(day, options, outcomes, latencies, wallNanos);
+    }
+
+    /**
+     * Lists the regular files of a directory, largest first.
+     *
+     * @param dir the directory to list
+     * @return the files, by decreasing size
+     * @throws UncheckedIOException if the directory cannot be listed
+     */
+    private static List<Path> listInputs(Path dir) {
+        try (Stream<Path> entries = Files.list(dir)) {
+            List<Path> files = new ArrayList<>(entries.filter(Files::isRegularFile).toList());
+            files.sort(Comparator.comparingLong((Path f) -> f.toFile().length()).reversed()
+                    .thenComparing(Comparator.naturalOrder()));
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list input directory: " + dir, e);
+        }
+    }
+
+    /**
+     * Reads one input and solves the selected parts of it.
+     * <p>
+     * {@link StreamingSolver}s stream the file once per part, unless {@code --mapped} is
+     * given; other solvers get its lines read up front or mapped.
+     * </p>
+     *
+     * @param solver  the solver of the day
+     * @param file    the input file
+     * @param options the parts, mapping and budget options
+     * @return the outcome of the input
+     */
+    private static Outcome execute(Solver solver, Path file, Options options) {
+        try {
+            String path = file.toString();
+            SolveContext context = SolveContext.create(options.budget(), null);
+            long start = System.nanoTime();
+            long[] results;
+            if (!options.mapped && solver instanceof StreamingSolver) {
+                results = new long[options.parts.size()];
+                for (int i = 0; i < results.length; i++) {
+                    results[i] = SolverRunner.solveFile(solver, path, options.parts.get(i), context);
+                }
+            } else {
+                List<String> lines = options.mapped
+                        ? InputReader.mapLines(path).asLines()
+                        : InputReader.readLines(path);
+                results = context.call(() -> SolverRunner.solveAll(solver, lines, options.parts));
+            }
+            return new Outcome(file, results, System.nanoTime() - start, null);
+        } catch (RuntimeException e) {
+            String message = (e.getMessage() != null) ? e.getMessage() : e.getClass().getSimpleName();
+            return new Outcome(file, null, 0, message);
+        }
+    }
+
+    /**
+     * Prints the throughput, the latency distribution, the slowest inputs and the failures.
+     *
+     * @param day       the day number
+     * @param options   the parts and thread count
+     * @param outcomes  the outcome of every input
+     * @param latencies the latencies of the solved inputs
+     * @param wallNanos wall-clock time of the whole sweep, in nanoseconds
+     */
+    private static void printReport(int day, Options options, List<Outcome> outcomes,
+                                    LatencyHistogram latencies, long wallNanos) {
+        List<Outcome> solved = new ArrayList<>();
+        List<Outcome> failed = new ArrayList<>();
+        long totalNanos = 0;
+        for (Outcome o : outcomes) {
+            if (o.error != null) {
+                failed.add(o);
+            } else {
+                solved.add(o);
+                totalNanos += o.nanos;
+            }
+        }
+
+        List<String> labels = options.parts.stream().map(Part::label).toList();
+        System.out.printf("Day %d, %s: %d inputs solved, %d failed, %d threads%n",
+                day, String.join("+", labels), solved.size(), failed.size(), options.threads);
+        System.out.printf("Wall time: %.3f ms, throughput: %.1f inputs/s%n",
+                wallNanos / 1e6, solved.size() / (wallNanos / 1e9));
+        if (!solved.isEmpty()) {
+            System.out.printf("Latency (ms): mean %.3f, p50 %.3f, p90 %.3f, p99 %.3f, max %.3f%n",
+                    totalNanos / 1e6 / solved.size(),
+                    latencies.percentile(50) / 1e6, latencies.percentile(90) / 1e6,
+                    latencies.percentile(99) / 1e6, latencies.max() / 1e6);
+
+            solved.sort(Comparator.comparingLong(Outcome::nanos).reversed());
+            System.out.println("Slowest inputs:");
+            System.out.printf("  %-30s %14s  %s%n", "File", "Time (ms)", String.join(", ", labels));
+            for (Outcome o : solved.subList(0, Math.min(SLOWEST_SHOWN, solved.size()))) {
+                List<String> results = new ArrayList<>();
+                for (long r : o.results) results.add(Long.toString(r));
+                System.out.printf("  %-30s %14.3f  %s%n",
+                        o.file.getFileName(), o.nanos / 1e6, String.join(", ", results));
+            }
+        }
+        if (!failed.isEmpty()) {
+            failed.sort(Comparator.comparing(Outcome::file));
+            System.out.println("Failures:");
+            for (Outcome o : failed) {
+                System.out.printf("  %-30s ERROR: %s%n", o.file.getFileName(), o.error);
+            }
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package ui;
+
+import core.GeneratorRegistry;
+import core.Part;
+import core.SolverRegistry;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Command-line options shared by the non-interactive modes.
+ * <p>
+ * Options are given as {@code --name value} pairs or as {@code --flag} switches.
+ * Day selections accept comma-separated values and ranges, e.g. {@code 1-5,8,10-12}.
+ * Unspecified options keep their defaults: all days, both parts and the full dataset.
+ * </p>
+ */
+class Options {
+
+    /** Days to run, in ascending order. */
+    List<Integer> days = range(1, 12);
+
+    /** Parts to run. */
+    List<Part> parts = List.of(Part.SILVER, Part.GOLD);
+
+    /** Datasets to run, "test", "full" and/or "gen" (synthetic). */
+    List<String> datasets = List.of("full");
+
+    /** Size of synthetic inputs relative to the puzzle inputs. */
+    int scale = 10;
+
+    /** Seed of synthetic inputs. */
+    long seed = GeneratorRegistry.DEFAULT_SEED;
+
+    /** Whether inputs are read through memory mapping instead of {@code Files.readAllLines}. */
+    boolean mapped = false;
+
+    /** Number of worker threads, defaults to the number of available processors. */
+    int threads = Runtime.getRuntime().availableProcessors();
+
+    /** Number of unmeasured warm-up iterations of the regression check. */
+    int warmup = 5;
+
+    /** Number of measured iterations of the regression check. */
+    int iterations = 10;
+
+    /** Slowdown over the baseline, in percent, beyond which the regression check fails. */
+    int threshold = 25;
+
+    /** Number of generated inputs each day is verified on. */
+    int trials = 10;
+
+    /** Port the solve server listens on. */
+    int port = 8025;
+
+    /** Number of requests each lane of the solve server lets wait before refusing more. */
+    int queue = 64;
+
+    /** Time budget of each solve in milliseconds, 0 for no limit. */
+    long budget = 0;
+
+    /** Whether solvers use their memory-lean strategies. */
+    boolean lowFootprint = false;
+
+    /** Whether solvers reducing over chunks of their input run on the calling thread only. */
+    boolean sequential = false;
+
+    /** Implementation selected for each day given by {@code --impl}; other days keep their default. */
+    Map<Integer, String> implementations = Map.of();
+
+    /** Whether the persistent result cache is bypassed. */
+    boolean noCache = false;
+
+    /** Directory of input files solved by the sweep, or {@code null} if not given. */
+    Path inputDir = null;
+
+    /** File to dump a Java Flight Recorder recording to, or {@code null} to not record. */
+    Path jfr = null;
+
+    /**
+     * Returns the time budget of each solve.
+     *
+     * @return the budget, or {@code null} if solves are not limited
+     */
+    Duration budget() {
+        return (budget > 0) ? Duration.ofMillis(budget) : null;
+    }
+
+    /**
+     * Parses the options following the command name.
+     *
+     * @param args the command-line arguments
+     * @param from index of the first option in {@code args}
+     * @return the parsed {@link Options}
+     * @throws IllegalArgumentException if an option is unknown or has an invalid value
+     */
+    static Options parse(String[] args, int from) {
+        Options options = new Options();
+        String impl = null;
+        for (int i = from; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--days" -> options.days = parseDays(value(args, ++i, arg));
+                case "--parts" -> options.parts = parseParts(value(args, ++i, arg));
+                case "--sets" -> options.datasets = parseDatasets(value(args, ++i, arg));
+                case "--scale" -> options.scale = parseScale(value(args, ++i, arg));
+                case "--seed" -> options.seed = parseSeed(value(args, ++i, arg));
+                case "--mapped" -> options.mapped = true;
+                case "--threads" -> options.threads = parsePositive(value(args, ++i, arg), arg);
+                case "--warmup" -> options.warmup = parseNonNegative(value(args, ++i, arg), arg);
+                case "--iterations" -> options.iterations = parsePositive(value(args, ++i, arg), arg);
+                case "--threshold" -> options.threshold = parsePositive(value(args, ++i, arg), arg);
+                case "--trials" -> options.trials = parsePositive(value(args, ++i, arg), arg);
+                case "--port" -> options.port = parsePort(value(args, ++i, arg));
+                case "--queue" -> options.queue = parseNonNegative(value(args, ++i, arg), arg);
+                case "--budget" -> options.budget = parsePositive(value(args, ++i, arg), arg);
+                case "--dir" -> options.inputDir = Path.of(value(args, ++i, arg));
+                case "--impl" -> impl = value(args, ++i, arg);
+                case "--jfr" -> options.jfr = Path.of(value(args, ++i, arg));
+                case "--no-cache" -> options.noCache = true;
+                case "--low-footprint" -> options.lowFootprint = true;
+                case "--sequential" -> options.sequential = true;
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (impl != null) options.implementations = parseImplementations(impl, options.days);
+        return options;
+    }
+
+    /**
+     * Returns the value following an option, failing if it is missing.
+     *
+     * @param args   the command-line arguments
+     * @param index  index of the expected value
+     * @param option name of the option, used in the error message
+     * @return the option value
+     * @throws IllegalArgumentException if no value follows the option
+     */
+    static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    /**
+     * Parses a strictly positive integer option value.
+     *
+     * @param value  the raw value
+     * @param option name of the option, used in the error message
+     * @return the parsed integer
+     * @throws IllegalArgumentException if the value is not a positive integer
+     */
+    static int parsePositive(String value, String option) {
+        try {
+            int n = Integer.parseInt(value);
+            if (n > 0) return n;
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(option + " expects a positive integer, got: " + value);
+    }
+
+    /**
+     * Parses a non-negative integer option value.
+     *
+     * @param value  the raw value
+     * @param option name of the option, used in the error message
+     * @return the parsed integer
+     * @throws IllegalArgumentException if the value is not a non-negative integer
+     */
+    static int parseNonNegative(String value, String option) {
+        try {
+            int n = Integer.parseInt(value);
+            if (n >= 0) return n;
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(option + " expects a non-negative integer, got: " + value);
+    }
+
+    /**
+     * Parses a TCP port.
+     *
+     * @param value the raw value
+     * @return the parsed port
+     * @throws IllegalArgumentException if the value is not between 1 and 65535
+     */
+    static int parsePort(String value) {
+        int port = parsePositive(value, "--port");
+        if (port > 65535) {
+            throw new IllegalArgumentException("--port must be at most 65535, got: " + value);
+        }
+        return port;
+    }
+
+    /**
+     * Parses the scale of synthetic inputs.
+     *
+     * @param value the raw value
+     * @return the parsed scale
+     * @throws IllegalArgumentException if the value is not between 1 and {@link GeneratorRegistry#MAX_SCALE}
+     */
+    static int parseScale(String value) {
+        int scale = parsePositive(value, "--scale");
+        if (scale > GeneratorRegistry.MAX_SCALE) {
+            throw new IllegalArgumentException("--scale must be at most " + GeneratorRegistry.MAX_SCALE + ", got: " + value);
+        }
+        return scale;
+    }
+
+    /**
+     * Parses the seed of synthetic inputs.
+     *
+     * @param value the raw value
+     * @return the parsed seed
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    static long parseSeed(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--seed expects an integer, got: " + value);
+        }
+    }
+
+    /**
+     * Parses a day selection such as {@code 1-5,8,10-12}.
+     *
+     * @param value the raw selection
+     * @return the selected days in ascending order, without duplicates
+     * @throws IllegalArgumentException if a day is malformed or outside 1-12
+     */
+    static List<Integer> parseDays(String value) {
+        TreeSet<Integer> days = new TreeSet<>();
+        for (String token : value.split(",")) {
+            String[] bounds = token.trim().split("-");
+            try {
+                int from = Integer.parseInt(bounds[0].trim());
+                int to = (bounds.length > 1) ? Integer.parseInt(bounds[1].trim()) : from;
+                if (bounds.length > 2 || from < 1 || to > 12 || from > to) {
+                    throw new IllegalArgumentException("Invalid day selection: " + token);
+                }
+                days.addAll(range(from, to));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid day selection: " + token);
+            }
+        }
+        return new ArrayList<>(days);
+    }
+
+    /**
+     * Parses an implementation selection such as {@code reference} or {@code parallel,8=low-footprint}.
+     * <p>
+     * A bare name selects that implementation for every selected day having one of that
+     * name, and {@code DAY=NAME} selects it for one day, overriding bare names.
+     * </p>
+     *
+     * @param value the raw selection
+     * @param days  the selected days
+     * @return the implementation selected for each day it applies to
+     * @throws IllegalArgumentException if a day is malformed or has no implementation of the given name,
+     *                                  or if a bare name applies to none of the selected days
+     */
+    static Map<Integer, String> parseImplementations(String value, List<Integer> days) {
+        Map<Integer, String> bare = new TreeMap<>();
+        Map<Integer, String> explicit = new TreeMap<>();
+        for (String token : value.split(",")) {
+            String[] parts = token.trim().split("=", 2);
+            if (parts.length == 2) {
+                int day;
+                try {
+                    day = Integer.parseInt(parts[0].trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid implementation selection: " + token);
+                }
+                String name = parts[1].trim().toLowerCase();
+                if (!SolverRegistry.names(day).contains(name)) {
+                    throw new IllegalArgumentException("Day " + day + " has no implementation named " + name
+                            + ", available: " + String.join(", ", SolverRegistry.names(day)));
+                }
+                explicit.put(day, name);
+            } else {
+                String name = parts[0].trim().toLowerCase();
+                int before = bare.size();
+                for (int day : days) {
+                    if (SolverRegistry.names(day).contains(name)) bare.put(day, name);
+                }
+                if (bare.size() == before) {
+                    throw new IllegalArgumentException("No selected day has an implementation named " + name);
+                }
+            }
+        }
+        bare.putAll(explicit);
+        return bare;
+    }
+
+    /**
+     * Parses a part selection such as {@code silver,gold}.
+     *
+     * @param value the raw selection
+     * @return the selected parts
+     * @throws IllegalArgumentException if a part is unknown
+     */
+    static List<Part> parseParts(String value) {
+        List<Part> parts = new ArrayList<>();
+        for (String token : value.split(",")) {
+            switch (token.trim().toLowerCase()) {
+                case "silver", "1" -> parts.add(Part.SILVER);
+                case "gold", "2" -> parts.add(Part.GOLD);
+                default -> throw new IllegalArgumentException("Unknown part: " + token);
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Parses a dataset selection such as {@code test,full,gen}.
+     *
+     * @param value the raw selection
+     * @return the selected datasets
+     * @throws IllegalArgumentException if a dataset is unknown
+     */
+    static List<String> parseDatasets(String value) {
+        List<String> datasets = new ArrayList<>();
+        for (String token : value.split(",")) {
+            String set = token.trim().toLowerCase();
+            if (!set.equals("test") && !set.equals("full") && !set.equals("gen")) {
+                throw new IllegalArgumentException("Unknown dataset: " + token);
+            }
+            datasets.add(set);
+        }
+        return datasets;
+    }
+
+    /**
+     * Returns the identifier the timings of a day and dataset are logged under.
+     * <p>
+     * Full inputs are logged as "DayN", synthetic ones as "DayNxS" and any other dataset
+     * as "DayN-dataset", e.g. "Day8-test", so that the baselines of different inputs never
+     * mix; a non-default implementation adds its {@linkplain SolverRegistry#suffix(int) suffix}.
+     * </p>
+     *
+     * @param day     the day number
+     * @param dataset "test", "full" or "gen"
+     * @param scale   size of synthetic inputs, ignored for the other datasets
+     * @return the problem identifier, e.g. "Day8x10:low-footprint"
+     */
+    static String problemId(int day, String dataset, int scale) {
+        String input = switch (dataset) {
+            case "full" -> "";
+            case "gen" -> "x" + scale;
+            default -> "-" + dataset;
+        };
+        return "Day" + day + input + SolverRegistry.suffix(day);
+    }
+
+    /**
+     * Builds the list of integers in {@code [from, to]}.
+     *
+     * @param from first value, inclusive
+     * @param to   last value, inclusive
+     * @return the list of values
+     */
+    private static List<Integer> range(int from, int to) {
+        List<Integer> values = new ArrayList<>();
+        for (int i = from; i <= to; i++) values.add(i);
+        return values;
+    }
+}
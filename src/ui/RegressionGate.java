@@ -0,0 +1,110 @@
+package ui;
+
+import core.GeneratorRegistry;
+import core.InputReader;
+import core.LogHistory;
+import core.Measurement;
+import core.Part;
+import core.Solver;
+import core.SolverRegistry;
+import core.TimeLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless runner that checks the selected solvers against their logged timings.
+ * <p>
+ * Every selected (day, part, dataset) combination is measured in turn, with the
+ * warm-up and measured iterations of the options, and its median is compared with the
+ * {@link LogHistory} baseline of the same problem and mode. A combination regresses when
+ * its median exceeds the baseline by more than the threshold percentage; one that was
+ * never measured before is reported as new and passes. Combinations
+ * are measured one at a time, since concurrent runs would disturb each other's timings.
+ * </p>
+ * <p>
+ * The baseline is read once before measuring. Each measurement that did not regress is
+ * then logged as a MEASURE record, so every check also extends the history of the next
+ * one; regressed measurements are not logged, so that they never become the baseline a
+ * regression is judged against.
+ * </p>
+ */
+public class RegressionGate {
+
+    /**
+     * Measures every selected combination, prints the comparison and lists the offenders.
+     *
+     * @param options the selection, iteration counts and threshold
+     * @return 0 if nothing regressed, 1 if a solver regressed or failed
+     */
+    static int run(Options options) {
+        LogHistory history = LogHistory.read();
+        List<String> offenders = new ArrayList<>();
+
+        System.out.printf("Warm-up %d, measured %d, threshold +%d%%%n",
+                options.warmup, options.iterations, options.threshold);
+        System.out.printf("%-4s %-7s %-5s %14s %14s %9s  %s%n",
+                "Day", "Part", "Set", "Median (ms)", "Baseline (ms)", "Change", "Status");
+        for (int day : options.days) {
+            for (String dataset : options.datasets) {
+                for (Part part : options.parts) {
+                    String offender = check(day, part, dataset, options, history);
+                    if (offender != null) offenders.add(offender);
+                }
+            }
+        }
+
+        if (offenders.isEmpty()) {
+            System.out.println("No regressions.");
+            return 0;
+        }
+        System.out.println("Regressions: " + String.join(", ", offenders));
+        return 1;
+    }
+
+    /**
+     * Measures one combination, prints its row and logs the measurement unless it regressed.
+     *
+     * @param day     the day number
+     * @param part    the part to solve
+     * @param dataset "test", "full" or "gen"
+     * @param options the iteration counts, threshold, scale and seed
+     * @param history the logged timings read before the check started
+     * @return a description of the regression or failure, or {@code null} if the combination passed
+     */
+    private static String check(int day, Part part, String dataset, Options options, LogHistory history) {
+        boolean synthetic = dataset.equals("gen");
+        String problemId = Options.problemId(day, dataset, options.scale);
+        String name = problemId + "-" + part.label();
+
+        Measurement measurement;
+        try {
+            Solver solver = SolverRegistry.get(day);
+            List<String> lines = synthetic
+                    ? GeneratorRegistry.generate(day, options.scale, options.seed)
+                    : InputReader.readLines(InputReader.inputPath(day, dataset));
+            measurement = Measurement.run(solver, lines, part, options.warmup, options.iterations);
+        } catch (RuntimeException e) {
+            String message = (e.getMessage() != null) ? e.getMessage() : e.getClass().getSimpleName();
+            System.out.printf("%-4d %-7s %-5s ERROR: %s%n", day, part.label(), dataset, message);
+            return name + " (error)";
+        }
+
+        long median = measurement.statistics().median();
+        LogHistory.Baseline baseline = history.baseline(problemId, part.label());
+        if (baseline == null) {
+            TimeLogger.logMeasurement(problemId, part.label(), measurement);
+            System.out.printf("%-4d %-7s %-5s %14.3f %14s %9s  %s%n",
+                    day, part.label(), dataset, median / 1e6, "-", "-", "new");
+            return null;
+        }
+
+        double change = 100.0 * (median - baseline.nanos()) / Math.max(1, baseline.nanos());
+        boolean regressed = change > options.threshold;
+        if (!regressed) TimeLogger.logMeasurement(problemId, part.label(), measurement);
+        System.out.printf("%-4d %-7s %-5s %14.3f %14.3f %+8.1f%%  %s%n",
+                day, part.label(), dataset, median / 1e6, baseline.nanos() / 1e6, change,
+                regressed ? "REGRESSED" : "ok");
+        return regressed ? String.format("%s (%+.1f%%)", name, change) : null;
+    }
+}
@@ -0,0 +1,414 @@
+package ui;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import core.InputDigest;
+import core.InputReader;
+import core.Part;
+import core.ResultCache;
+import core.SolveCancelledException;
+import core.SolveContext;
+import core.Solver;
+import core.SolverRegistry;
+import core.SolverRunner;
+import core.StreamingSolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local HTTP service solving puzzles on request, so other tools can reuse a warm JVM.
+ * <p>
+ * The server listens on the loopback interface and answers {@code /solve?day=N&part=P}.
+ * The input is the request body, one puzzle line per line, or the file given by a
+ * {@code path} parameter. The response is a JSON object with the result and the time
+ * spent solving, or with an error message. Results found in the {@link ResultCache} are
+ * returned as cached, without solving.
+ * </p>
+ * <p>
+ * Every request runs on its own virtual thread, but solving is admitted through two
+ * lanes: heavy days, those weighing the most in {@link BatchRunner#COST_WEIGHT}, and
+ * light days. Each lane runs a bounded number of requests at once and lets a bounded
+ * number wait; beyond that, requests are refused with 503 and a {@code Retry-After}
+ * header. A burst of heavy requests therefore fills its own lane only, and light days
+ * keep being served. A request is admitted before its body is read, so refused requests
+ * never buffer their input.
+ * </p>
+ * <p>
+ * Each solve runs under a {@link SolveContext} with the time budget of the {@code budget}
+ * parameter, in milliseconds, or of {@code --budget}. A solve exceeding it is answered
+ * with 504 and the progress reached. Solves still running when the server stops are
+ * cancelled.
+ * </p>
+ * <p>
+ * Server timings are not logged, since request inputs are not the puzzle inputs.
+ * </p>
+ */
+public class SolveServer {
+
+    /** Cost weight from which a day is served by the heavy lane. */
+    private static final int HEAVY_WEIGHT = 20;
+
+    /** Largest accepted request body, in bytes. */
+    private static final int MAX_BODY_BYTES = 64 * 1024 * 1024;
+
+    /**
+     * Admission control for one class of requests.
+     * <p>
+     * At most {@code concurrency} requests solve at once, and at most {@code queue} more
+     * wait for a slot. Waiting blocks only the virtual thread of the request.
+     * </p>
+     */
+    private static final class Lane {
+
+        /** Name of the lane, reported when it is full. */
+        private final String name;
+
+        /** Slots of the requests being solved. */
+        private final Semaphore running;
+
+        /** Maximum number of requests solving or waiting. */
+        private final int capacity;
+
+        /** Number of requests solving or waiting. */
+        private final AtomicInteger admitted = new AtomicInteger();
+
+        /**
+         * Creates a lane.
+         *
+         * @param name        name of the lane
+         * @param concurrency maximum number of requests solving at once
+         * @param queue       maximum number of requests waiting for a slot
+         */
+        Lane(String name, int concurrency, int queue) {
+            this.name = name;
+            this.running = new Semaphore(concurrency, true);
+            this.capacity = concurrency + queue;
+        }
+
+        /**
+         * Reserves a place in the lane without waiting.
+         *
+         * @return {@code true} if the request was admitted, {@code false} if the lane is full
+         */
+        boolean tryAdmit() {
+            if (admitted.incrementAndGet() > capacity) {
+                admitted.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Releases a place reserved by {@link #tryAdmit()}.
+         */
+        void leave() {
+            admitted.decrementAndGet();
+        }
+    }
+
+    /**
+     * Outcome of a request that was solved.
+     *
+     * @param result the puzzle result
+     * @param nanos  time spent solving, in nanoseconds, 0 if cached
+     * @param cached whether the result was served from the {@link ResultCache}
+     */
+    private record Answer(long result, long nanos, boolean cached) {}
+
+    /** Lane of the days weighing at least {@value #HEAVY_WEIGHT}. */
+    private final Lane heavy;
+
+    /** Lane of the other days. */
+    private final Lane light;
+
+    /** Default time budget of a solve, or {@code null} for none. */
+    private final Duration budget;
+
+    /** Contexts of the solves in progress, cancelled when the server stops. */
+    private final Set<SolveContext> active = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates the lanes from the options.
+     *
+     * @param options the thread count, queue length and budget
+     */
+    private SolveServer(Options options) {
+        this.budget = options.budget();
+        this.heavy = new Lane("heavy", Math.max(1, options.threads / 2), options.queue);
+        this.light = new Lane("light", options.threads, options.queue);
+    }
+
+    /**
+     * Starts the server and serves requests until the JVM is stopped.
+     *
+     * @param options the port, thread count and queue length
+     * @throws UncheckedIOException if the server cannot be started
+     */
+    static void run(Options options) {
+        SolveServer service = new SolveServer(options);
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), options.port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot listen on port " + options.port, e);
+        }
+        server.createContext("/solve", service::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            service.active.forEach(SolveContext::cancel);
+            server.stop(1);
+            stopped.countDown();
+        }, "solve-server-shutdown"));
+
+        server.start();
+        System.out.printf("Listening on http://%s:%d/solve (%d heavy, %d light, queue %d per lane)%n",
+                server.getAddress().getHostString(), server.getAddress().getPort(),
+                service.heavy.running.availablePermits(), service.light.running.availablePermits(), options.queue);
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Handles a request to {@code /solve}.
+     *
+     * @param exchange the request and its response
+     */
+    private void handle(HttpExchange exchange) {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "GET, POST");
+                respond(exchange, 405, error("Method not allowed: " + method));
+                return;
+            }
+
+            Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+            int day;
+            Part part;
+            Duration limit;
+            try {
+                day = parseDay(params.get("day"));
+                part = parsePart(params.get("part"));
+                limit = params.containsKey("budget")
+                        ? Duration.ofMillis(Options.parsePositive(params.get("budget"), "budget"))
+                        : budget;
+            } catch (IllegalArgumentException e) {
+                respond(exchange, 400, error(e.getMessage()));
+                return;
+            }
+
+            Lane lane = (BatchRunner.COST_WEIGHT[day] >= HEAVY_WEIGHT) ? heavy : light;
+            if (!lane.tryAdmit()) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                respond(exchange, 503, error("The " + lane.name + " lane is full, retry later"));
+                return;
+            }
+            try {
+                List<String> lines = null;
+                String path = params.get("path");
+                if (path == null) {
+                    lines = readBody(exchange);
+                    if (lines == null) {
+                        respond(exchange, 413, error("Input larger than " + MAX_BODY_BYTES + " bytes"));
+                        return;
+                    }
+                } else if (!Files.isRegularFile(Path.of(path))) {
+                    respond(exchange, 400, error("No such file: " + path));
+                    return;
+                }
+
+                lane.running.acquire();
+                Answer answer;
+                SolveContext context = SolveContext.create(limit, null);
+                active.add(context);
+                try {
+                    answer = solve(day, part, path, lines, context);
+                } finally {
+                    active.remove(context);
+                    lane.running.release();
+                }
+                respond(exchange, 200, String.format(Locale.ROOT,
+                        "{\"day\":%d,\"part\":\"%s\",\"result\":%d,\"nanos\":%d,\"millis\":%.3f,\"cached\":%b}",
+                        day, part.label(), answer.result, answer.nanos, answer.nanos / 1e6, answer.cached));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                respond(exchange, 503, error("Server is shutting down"));
+            } catch (SolveCancelledException e) {
+                respond(exchange, e.expired() ? 504 : 503, error(e.getMessage()));
+            } catch (RuntimeException e) {
+                String message = (e.getMessage() != null) ? e.getMessage() : e.getClass().getSimpleName();
+                respond(exchange, 500, error(message));
+            } finally {
+                lane.leave();
+            }
+        } catch (IOException e) {
+            // The client went away; nothing left to answer
+        }
+    }
+
+    /**
+     * Solves one request, consulting the result cache first.
+     *
+     * @param day     the day number
+     * @param part    the part to solve
+     * @param path    the input file, or {@code null} to use {@code lines}
+     * @param lines   the input lines, ignored if {@code path} is given
+     * @param context the budget of the solve
+     * @return the answer
+     * @throws SolveCancelledException if the solve ran out of time or the server is stopping
+     */
+    private static Answer solve(int day, Part part, String path, List<String> lines, SolveContext context) {
+        Solver solver = SolverRegistry.get(day);
+        boolean streaming = path != null && solver instanceof StreamingSolver;
+        if (path != null && !streaming) {
+            lines = InputReader.readLines(path);
+        }
+
+        String digest = streaming ? InputDigest.ofFile(path) : InputDigest.of(lines);
+        OptionalLong cached = ResultCache.get(solver, part, digest);
+        if (cached.isPresent()) {
+            return new Answer(cached.getAsLong(), 0, true);
+        }
+
+        long start = System.nanoTime();
+        long result;
+        if (streaming) {
+            SolverRunner.FileResult solved = SolverRunner.solveFileDigested(solver, path, part, context);
+            result = solved.result();
+            digest = solved.digest();
+        } else {
+            result = SolverRunner.solve(solver, lines, part, context);
+        }
+        long nanos = System.nanoTime() - start;
+        ResultCache.put(solver, part, digest, result);
+        return new Answer(result, nanos, false);
+    }
+
+    /**
+     * Reads the request body as input lines.
+     *
+     * @param exchange the request
+     * @return the lines of the body, or {@code null} if it exceeds {@value #MAX_BODY_BYTES} bytes
+     * @throws IOException if the body cannot be read
+     */
+    private static List<String> readBody(HttpExchange exchange) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) return null;
+        return new String(body, StandardCharsets.UTF_8).lines().toList();
+    }
+
+    /**
+     * Parses the day parameter.
+     *
+     * @param value the raw parameter, possibly {@code null}
+     * @return the day number
+     * @throws IllegalArgumentException if the day is missing or not between 1 and 12
+     */
+    private static int parseDay(String value) {
+        if (value == null) throw new IllegalArgumentException("Missing parameter: day");
+        try {
+            int day = Integer.parseInt(value);
+            if (SolverRegistry.contains(day)) return day;
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid day: " + value);
+    }
+
+    /**
+     * Parses the part parameter, given as "silver", "gold", "1" or "2".
+     *
+     * @param value the raw parameter, possibly {@code null}
+     * @return the part
+     * @throws IllegalArgumentException if the part is missing or unknown
+     */
+    private static Part parsePart(String value) {
+        if (value == null) throw new IllegalArgumentException("Missing parameter: part");
+        List<Part> parts = Options.parseParts(value);
+        if (parts.size() != 1) throw new IllegalArgumentException("Expected a single part, got: " + value);
+        return parts.get(0);
+    }
+
+    /**
+     * Parses a URL query string into its decoded parameters.
+     *
+     * @param query the raw query, possibly {@code null}
+     * @return the parameters; the last occurrence of a repeated name wins
+     */
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null) return params;
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    /**
+     * Builds the JSON body of an error response.
+     *
+     * @param message the error message
+     * @return the JSON object
+     */
+    private static String error(String message) {
+        StringBuilder sb = new StringBuilder("{\"error\":\"");
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append("\"}").toString();
+    }
+
+    /**
+     * Sends a JSON response.
+     *
+     * @param exchange the request and its response
+     * @param status   the HTTP status code
+     * @param json     the response body
+     * @throws IOException if the response cannot be written
+     */
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = (json + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package ui;
+
+import core.InputReader;
+import core.Part;
+import core.Solver;
+import core.SolverRegistry;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.List;
+
+/**
+ * Headless runner that breaks down the startup cost of solving one day in a fresh JVM.
+ * <p>
+ * The report covers every step from JVM launch to the first result, in order. The steps
+ * are starting the JVM up to this command, loading and creating the solver, reading the
+ * input, and solving each selected part for the first time. A second solve of the first
+ * part follows, showing how much of the first one was one-off cost. Each step shows its
+ * wall time, the classes loaded during it and the time the JIT compiler threads spent
+ * meanwhile, which overlaps the wall time rather than adding to it.
+ * Solvers are called directly, bypassing the result and model caches, so every part pays
+ * its own parsing.
+ * </p>
+ * <p>
+ * The figures are only meaningful as the first command of the JVM, e.g.
+ * {@code java Main startup --days 10}. Classes loaded in each step can be listed with
+ * {@code -Xlog:class+load}.
+ * </p>
+ */
+public class StartupReport {
+
+    /** Bean reporting the JVM uptime. */
+    private static final RuntimeMXBean RUNTIME = ManagementFactory.getRuntimeMXBean();
+
+    /** Bean counting loaded classes. */
+    private static final ClassLoadingMXBean CLASSES = ManagementFactory.getClassLoadingMXBean();
+
+    /** Bean reporting JIT compilation time, {@code null} if the JVM has no JIT. */
+    private static final CompilationMXBean COMPILER = ManagementFactory.getCompilationMXBean();
+
+    /** Time at the end of the previous step, per {@link System#nanoTime()}. */
+    private long lastNanos;
+
+    /** Number of classes loaded at the end of the previous step. */
+    private long lastClasses;
+
+    /** Total JIT compilation time at the end of the previous step, in milliseconds. */
+    private long lastCompileMillis;
+
+    /**
+     * Starts the report from the current counters.
+     */
+    private StartupReport() {
+        lastNanos = System.nanoTime();
+        lastClasses = CLASSES.getTotalLoadedClassCount();
+        lastCompileMillis = compileMillis();
+    }
+
+    /**
+     * Measures the startup of the selected day and prints the breakdown.
+     *
+     * @param options the day, parts and dataset
+     */
+    static void run(Options options) {
+        long uptimeMillis = RUNTIME.getUptime();
+        StartupReport report = new StartupReport();
+        int day = options.days.get(0);
+        String dataset = options.datasets.get(0);
+
+        System.out.printf("%-28s %12s %9s %10s  %s%n", "Step", "Time (ms)", "Classes", "JIT (ms)", "Result");
+        System.out.printf("%-28s %12.3f %9d %10d%n",
+                "JVM start", (double) uptimeMillis, report.lastClasses, report.lastCompileMillis);
+
+        Solver solver = SolverRegistry.get(day);
+        report.step("Day " + day + " solver loading", "");
+
+        List<String> lines = InputReader.readLines(InputReader.inputPath(day, dataset));
+        report.step("Input reading (" + dataset + ")", lines.size() + " lines");
+
+        for (Part part : options.parts) {
+            long result = solve(solver, lines, part);
+            report.step("First solve (" + part.label() + ")", Long.toString(result));
+        }
+        Part first = options.parts.get(0);
+        long result = solve(solver, lines, first);
+        report.step("Second solve (" + first.label() + ")", Long.toString(result));
+
+        System.out.printf("Total uptime: %d ms%n", RUNTIME.getUptime());
+    }
+
+    /**
+     * Prints the time, classes and compilation spent since the previous step.
+     *
+     * @param name   name of the step
+     * @param result outcome of the step, printed last
+     */
+    private void step(String name, String result) {
+        long nanos = System.nanoTime();
+        long classes = CLASSES.getTotalLoadedClassCount();
+        long compile = compileMillis();
+        System.out.printf("%-28s %12.3f %9d %10d  %s%n",
+                name, (nanos - lastNanos) / 1e6, classes - lastClasses, compile - lastCompileMillis, result);
+        lastNanos = System.nanoTime();
+        lastClasses = classes;
+        lastCompileMillis = compile;
+    }
+
+    /**
+     * Solves one part directly, without any cache.
+     *
+     * @param solver the solver to run
+     * @param lines  the input lines
+     * @param part   the part to solve
+     * @return the puzzle result
+     */
+    private static long solve(Solver solver, List<String> lines, Part part) {
+        return (part == Part.SILVER) ? solver.solveSilver(lines) : solver.solveGold(lines);
+    }
+
+    /**
+     * Returns the total JIT compilation time.
+     *
+     * @return the compilation time in milliseconds, or 0 if not supported
+     */
+    private static long compileMillis() {
+        return (COMPILER != null && COMPILER.isCompilationTimeMonitoringSupported())
+                ? COMPILER.getTotalCompilationTime()
+                : 0;
+    }
+}
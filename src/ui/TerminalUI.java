@@ -1,11 +1,24 @@
 package ui;
 
+import core.InputDigest;
 import core.InputReader;
+import core.Measurement;
+import core.Part;
+import core.ProgressListener;
+import core.ResourceProbe;
+import core.ResultCache;
+import core.SolveContext;
+import core.ResourceUsage;
 import core.Solver;
 import core.SolverRegistry;
+import core.SolverRunner;
+import core.Statistics;
+import core.StreamingSolver;
 import core.TimeLogger;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.Scanner;
 import java.util.concurrent.TimeUnit;
 
@@ -13,52 +26,248 @@ import java.util.concurrent.TimeUnit;
  * Terminal-based user interface for selecting and executing problem solvers.
  * <p>
  * This class interacts with the user through the console, prompting for the day,
- * dataset type (test or full), and problem part (silver or gold). It reads the
+ * dataset type (test or full), and problem part (silver, gold or both). It reads the
  * corresponding input file, executes the solver, displays the result and execution
  * time, and logs the execution time to a file using {@link TimeLogger}.
  * </p>
+ * <p>
+ * In measure mode the solver is run a configurable number of warm-up iterations
+ * followed by measured iterations, and the min, median, mean and standard deviation
+ * of the measured iterations are reported instead of a single cold time.
+ * </p>
+ * <p>
+ * Single runs consult the {@link ResultCache} first: a cached result is printed
+ * without solving or logging a time. Measure mode always bypasses the cache.
+ * </p>
+ * <p>
+ * Days with several implementations ask which one to run, the day's default being
+ * suggested. Compare mode instead measures all of them on the same input, like the
+ * {@code compare} command, and reports their speedups over the reference.
+ * </p>
+ * <p>
+ * Single runs of {@link StreamingSolver}s read the input while solving it, so their
+ * time includes reading the file.
+ * </p>
+ * <p>
+ * Solvers reporting progress through their {@link SolveContext} have it shown on the
+ * error stream while a single run goes on, refreshed at most every
+ * {@value #PROGRESS_INTERVAL_MILLIS} ms.
+ * </p>
  */
 public class TerminalUI {
 
+    /** Minimum time between two progress lines, in milliseconds. */
+    private static final long PROGRESS_INTERVAL_MILLIS = 250;
+
+    /**
+     * Prints the progress of a solve on a single, rewritten line of the error stream.
+     */
+    private static final class ProgressPrinter implements ProgressListener {
+
+        /** Time of the last line printed, per {@link System#nanoTime()}. */
+        private long last = System.nanoTime();
+
+        /** Whether a progress line was printed. */
+        private boolean printed;
+
+        /**
+         * Prints the progress if the previous line is old enough.
+         *
+         * @param done  units of work completed so far
+         * @param total total units of work, or 0 if unknown
+         * @param unit  name of the units
+         */
+        @Override
+        public synchronized void onProgress(long done, long total, String unit) {
+            long now = System.nanoTime();
+            if (now - last < PROGRESS_INTERVAL_MILLIS * 1_000_000) return;
+            last = now;
+            printed = true;
+            System.err.print("\rProgress: " + done + ((total > 0) ? "/" + total : "") + " " + unit + "   ");
+        }
+
+        /**
+         * Ends the progress line, if one was printed.
+         */
+        synchronized void finish() {
+            if (printed) System.err.println();
+        }
+    }
+
     /**
      * Starts the terminal user interface.
      * <p>
      * Prompts the user for input, executes the appropriate solver for the selected
-     * day and part, prints the result and execution time, and logs the execution
-     * time to "logs/executionTime.log".
+     * day and part, prints the result, execution time and memory activity, and logs
+     * them to "logs/executionTime.log". The latency summary is printed on exit too.
      * </p>
      */
     public static void start() {
+        TimeLogger.setPrintSummary(true);
         Scanner sc = new Scanner(System.in);
 
         int day = SafeInput.readIntInRange(sc, "Day (1-12): ", 1, 12);
         String set = SafeInput.readChoice(sc, "Dataset? (test/full): ", "test", "full");
-        int part = SafeInput.readIntInRange(sc, "Part? (1 = silver, 2 = gold): ", 1, 2);
+        int choice = SafeInput.readIntInRange(sc, "Part? (1 = silver, 2 = gold, 3 = both): ", 1, 3);
+        String mode = SafeInput.readChoice(sc, "Mode? (single/measure/compare): ", "single", "measure", "compare");
+
+        String path = InputReader.inputPath(day, set);
+        List<Part> parts = (choice == 3) ? List.of(Part.SILVER, Part.GOLD) : List.of(Part.of(choice));
+
+        if (mode.equals("compare")) {
+            int warmup = SafeInput.readIntInRange(sc, "Warm-up iterations (0-10000): ", 0, 10000);
+            int iterations = SafeInput.readIntInRange(sc, "Measured iterations (1-10000): ", 1, 10000);
+            List<String> lines = InputReader.readLines(path);
+            for (Part part : parts) {
+                System.out.println("== " + part.label());
+                ImplementationComparison.compare(day, lines, part, warmup, iterations);
+            }
+            return;
+        }
 
+        List<String> names = SolverRegistry.names(day);
+        if (names.size() > 1) {
+            String prompt = "Implementation? (" + String.join("/", names) + ", "
+                    + SolverRegistry.defaultName(day) + " being the default): ";
+            SolverRegistry.select(day, SafeInput.readChoice(sc, prompt, names.toArray(String[]::new)));
+        }
         Solver solver = SolverRegistry.get(day);
 
-        List<String> lines = InputReader.readLines(
-                String.format("src/days/day%02d/Day%02dInput%s.txt",
-                        day, day, set.equals("test") ? "Test" : "")
-        );
+        if (mode.equals("measure")) {
+            int warmup = SafeInput.readIntInRange(sc, "Warm-up iterations (0-10000): ", 0, 10000);
+            int iterations = SafeInput.readIntInRange(sc, "Measured iterations (1-10000): ", 1, 10000);
+            List<String> lines = InputReader.readLines(path);
+            for (Part part : parts) {
+                if (choice == 3) System.out.println("== " + part.label());
+                measure(Options.problemId(day, set, 0), solver, lines, part, warmup, iterations);
+            }
+            return;
+        }
 
+        if (choice == 3) {
+            solveBoth(Options.problemId(day, set, 0), solver, InputReader.readLines(path));
+            return;
+        }
+        Part part = Part.of(choice);
+
+        boolean streaming = solver instanceof StreamingSolver;
+        List<String> lines = streaming ? null : InputReader.readLines(path);
+        String digest = streaming ? InputDigest.ofFile(path) : InputDigest.of(lines);
+        OptionalLong cached = ResultCache.get(solver, part, digest);
+        if (cached.isPresent()) {
+            System.out.println("Result: " + cached.getAsLong() + " (cached)");
+            return;
+        }
+
+        ProgressPrinter progress = new ProgressPrinter();
+        SolveContext context = SolveContext.create(null, progress);
+        ResourceProbe probe = ResourceProbe.start();
         long startTime = System.nanoTime();
-        long result = (part == 1)
-                ? solver.solveSilver(lines)
-                : solver.solveGold(lines);
+        long result;
+        try {
+            if (streaming) {
+                SolverRunner.FileResult solved = SolverRunner.solveFileDigested(solver, path, part, context);
+                result = solved.result();
+                digest = solved.digest();
+            } else {
+                result = SolverRunner.solve(solver, lines, part, context);
+            }
+        } finally {
+            progress.finish();
+        }
         long endTime = System.nanoTime();
+        ResourceUsage usage = probe.stop();
+        ResultCache.put(solver, part, digest, result);
 
         System.out.println("Result: " + result);
         long duration = endTime - startTime;
 
+        System.out.println("Time: " + formatTime(duration));
+        System.out.println("Memory: " + usage.describe());
+        TimeLogger.log(Options.problemId(day, set, 0), part.label(), duration, usage);
+    }
+
+    /**
+     * Solves both parts concurrently over the same input, then prints and logs each part.
+     * <p>
+     * Parts found in the {@link ResultCache} are printed without solving. Each part is
+     * timed on its own thread, and the wall time of the two is printed as well. Memory
+     * activity is not reported, since allocations are only measured per thread.
+     * </p>
+     *
+     * @param problemId identifier the timings are logged under
+     * @param solver    the solver to run
+     * @param lines     the input lines
+     */
+    private static void solveBoth(String problemId, Solver solver, List<String> lines) {
+        String digest = InputDigest.of(lines);
+        List<Part> pending = new ArrayList<>();
+        for (Part part : List.of(Part.SILVER, Part.GOLD)) {
+            OptionalLong cached = ResultCache.get(solver, part, digest);
+            if (cached.isPresent()) {
+                System.out.println(part.label() + " result: " + cached.getAsLong() + " (cached)");
+            } else {
+                pending.add(part);
+            }
+        }
+        if (pending.isEmpty()) return;
+
+        ProgressPrinter progress = new ProgressPrinter();
+        SolveContext context = SolveContext.create(null, progress);
+        long startTime = System.nanoTime();
+        List<SolverRunner.PartResult> results;
+        try {
+            results = SolverRunner.solveParts(solver, lines, pending, context);
+        } finally {
+            progress.finish();
+        }
+        long wall = System.nanoTime() - startTime;
+
+        for (SolverRunner.PartResult r : results) {
+            ResultCache.put(solver, r.part(), digest, r.result());
+            System.out.println(r.part().label() + " result: " + r.result());
+            System.out.println(r.part().label() + " time: " + formatTime(r.nanos()));
+            TimeLogger.log(problemId, r.part().label(), r.nanos());
+        }
+        System.out.println("Wall time: " + formatTime(wall));
+    }
+
+    /**
+     * Runs the warm-up and measured iterations, prints the statistics and logs them.
+     *
+     * @param problemId  identifier the measurement is logged under
+     * @param solver     the solver to measure
+     * @param lines      the input lines
+     * @param part       the part to solve
+     * @param warmup     number of warm-up iterations
+     * @param iterations number of measured iterations
+     */
+    private static void measure(String problemId, Solver solver, List<String> lines, Part part, int warmup, int iterations) {
+        Measurement measurement = Measurement.run(solver, lines, part, warmup, iterations);
+        Statistics stats = measurement.statistics();
+
+        System.out.println("Result: " + measurement.result());
+        System.out.printf("Iterations: %d warm-up, %d measured%n", warmup, iterations);
+        System.out.println("Min:      " + formatTime(stats.min()));
+        System.out.println("Median:   " + formatTime(stats.median()));
+        System.out.println("Mean:     " + formatTime(Math.round(stats.mean())));
+        System.out.println("Std dev:  " + formatTime(Math.round(stats.stddev())));
+        TimeLogger.logMeasurement(problemId, part.label(), measurement);
+    }
+
+    /**
+     * Formats a duration in seconds, milliseconds, microseconds and nanoseconds.
+     *
+     * @param duration the duration in nanoseconds
+     * @return the formatted duration
+     */
+    private static String formatTime(long duration) {
         long seconds = TimeUnit.NANOSECONDS.toSeconds(duration);
         long milliseconds = TimeUnit.NANOSECONDS.toMillis(duration) % 1000;
         long microseconds = TimeUnit.NANOSECONDS.toMicros(duration) % 1000;
         long nanoseconds = duration % 1000;
 
-        System.out.printf("Time: %d s : %d ms : %d µs : %d ns%n",
+        return String.format("%d s : %d ms : %d µs : %d ns",
                 seconds, milliseconds, microseconds, nanoseconds);
-        TimeLogger.log("Day" + day, (part == 1) ? "Silver" : "Gold", duration);
     }
 }
-
@@ -0,0 +1,189 @@
+package ui;
+
+import core.InputDigest;
+import core.InputReader;
+import core.Part;
+import core.ResourceProbe;
+import core.ResourceUsage;
+import core.ResultCache;
+import core.Solver;
+import core.SolverRegistry;
+import core.SolverRunner;
+import core.StreamingSolver;
+import core.TimeLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-running mode that solves the selected inputs again whenever they change.
+ * <p>
+ * The directories of the selected days are registered with a {@link WatchService}.
+ * After solving every selected input once, the mode waits for files to be written and
+ * solves again only the changed inputs, for the selected parts, in the same JVM, so the
+ * JIT stays warm between edits. Events arriving within {@value #DEBOUNCE_MILLIS} ms of
+ * each other are handled together, since editors often write a file in several steps.
+ * </p>
+ * <p>
+ * An input whose content digest did not change, e.g. after saving it unmodified, is not
+ * solved again, unless its last solve failed. Prepared models are cached by content in
+ * {@link SolverRunner}, so the second part of a changed input and an input reverted to
+ * an earlier content skip parsing, and previous results are served from the
+ * {@link ResultCache}.
+ * </p>
+ */
+public class WatchMode {
+
+    /** Time to wait for further events after a change before solving, in milliseconds. */
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    /**
+     * A watched input file.
+     *
+     * @param day     the day number
+     * @param dataset "test" or "full"
+     * @param path    path of the input file
+     */
+    private record Input(int day, String dataset, Path path) {}
+
+    /**
+     * Solves the selected inputs, then solves them again on every change until the JVM is stopped.
+     *
+     * @param options the selection of days, parts and datasets
+     * @throws UncheckedIOException if the directories cannot be watched
+     */
+    static void run(Options options) {
+        Map<Path, Input> inputs = new HashMap<>();
+        Map<Path, String> digests = new HashMap<>();
+
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            Map<WatchKey, Path> directories = new HashMap<>();
+            for (int day : options.days) {
+                for (String dataset : options.datasets) {
+                    Path path = Paths.get(InputReader.inputPath(day, dataset)).toAbsolutePath().normalize();
+                    inputs.put(path, new Input(day, dataset, path));
+                    Path dir = path.getParent();
+                    if (!directories.containsValue(dir)) {
+                        directories.put(dir.register(watcher,
+                                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY), dir);
+                    }
+                }
+            }
+
+            List<Input> initial = new ArrayList<>(inputs.values());
+            initial.sort(Comparator.comparingInt(Input::day).thenComparing(Input::dataset));
+            for (Input input : initial) {
+                solve(input, options.parts, digests);
+            }
+            System.out.println("Watching " + directories.size() + " directories, press Ctrl+C to stop");
+
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                WatchKey key = watcher.take();
+                do {
+                    Path dir = directories.get(key);
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            changed.addAll(inputs.keySet());
+                        } else if (dir != null) {
+                            Path path = dir.resolve((Path) event.context());
+                            if (inputs.containsKey(path)) changed.add(path);
+                        }
+                    }
+                    key.reset();
+                    key = watcher.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                for (Path path : changed) {
+                    solve(inputs.get(path), options.parts, digests);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot watch the input directories", e);
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Solves the selected parts of an input, unless its content is the one last solved.
+     *
+     * @param input   the input to solve
+     * @param parts   the parts to solve
+     * @param digests content digest last solved for each input, updated by this method
+     */
+    private static void solve(Input input, List<Part> parts, Map<Path, String> digests) {
+        String name = "Day " + input.day + " " + input.dataset;
+        String path = input.path.toString();
+        Solver solver = SolverRegistry.get(input.day);
+        boolean streaming = solver instanceof StreamingSolver;
+
+        List<String> lines = null;
+        String digest;
+        try {
+            if (streaming) {
+                digest = InputDigest.ofFile(path);
+            } else {
+                lines = InputReader.readLines(path);
+                digest = InputDigest.of(lines);
+            }
+        } catch (RuntimeException e) {
+            System.out.printf("%s: cannot read %s%n", name, path);
+            digests.remove(input.path);
+            return;
+        }
+        if (digest.equals(digests.put(input.path, digest))) {
+            System.out.printf("%s: unchanged%n", name);
+            return;
+        }
+
+        for (Part part : parts) {
+            try {
+                OptionalLong cached = ResultCache.get(solver, part, digest);
+                if (cached.isPresent()) {
+                    System.out.printf("%s %-6s %d (cached)%n", name, part.label(), cached.getAsLong());
+                    continue;
+                }
+
+                ResourceProbe probe = ResourceProbe.start();
+                long start = System.nanoTime();
+                long result;
+                String solvedDigest = digest;
+                if (streaming) {
+                    SolverRunner.FileResult solved = SolverRunner.solveFileDigested(solver, path, part);
+                    result = solved.result();
+                    solvedDigest = solved.digest();
+                } else {
+                    result = SolverRunner.solve(solver, lines, part);
+                }
+                long nanos = System.nanoTime() - start;
+                ResourceUsage usage = probe.stop();
+                ResultCache.put(solver, part, solvedDigest, result);
+
+                System.out.printf("%s %-6s %d in %.3f ms%n", name, part.label(), result, nanos / 1e6);
+                TimeLogger.log(Options.problemId(input.day, input.dataset, 0), part.label(), nanos, usage);
+            } catch (RuntimeException e) {
+                String message = (e.getMessage() != null) ? e.getMessage() : e.getClass().getSimpleName();
+                System.out.printf("%s %-6s ERROR: %s%n", name, part.label(), message);
+                digests.remove(input.path);
+            }
+        }
+    }
+}